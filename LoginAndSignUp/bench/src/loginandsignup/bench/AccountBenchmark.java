@@ -0,0 +1,111 @@
+package loginandsignup.bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import loginandsignup.Database;
+import loginandsignup.Queries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Login lookups and sign-up inserts as {@code Login} and {@code SignUp}
+ * run them, with a connection opened per action like the forms do and on a
+ * reused connection for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int accounts;
+
+    private final AtomicLong nextSignUp = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void seed() throws Exception {
+        EmbeddedDatabase.reset();
+        EmbeddedDatabase.seedUsers(accounts);
+        EmbeddedDatabase.seedProviders(accounts / 10 + 1, EmbeddedDatabase.SERVICE_TYPES);
+    }
+
+    @State(Scope.Thread)
+    public static class OpenConnection {
+
+        Connection conn;
+
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            conn = Database.getConnection();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            conn.close();
+        }
+    }
+
+    /** Known user: one query against UserSignUp. */
+    @Benchmark
+    public boolean loginHit() throws SQLException {
+        int i = ThreadLocalRandom.current().nextInt(accounts);
+        try (Connection conn = Database.getConnection()) {
+            return matches(conn, Queries.LOGIN_USER, EmbeddedDatabase.userEmail(i), "secret" + i);
+        }
+    }
+
+    /** Wrong password: both tables are queried before the login is rejected. */
+    @Benchmark
+    public boolean loginMiss() throws SQLException {
+        int i = ThreadLocalRandom.current().nextInt(accounts);
+        try (Connection conn = Database.getConnection()) {
+            return matches(conn, Queries.LOGIN_USER, EmbeddedDatabase.userEmail(i), "wrong")
+                    || matches(conn, Queries.LOGIN_PROVIDER, EmbeddedDatabase.userEmail(i), "wrong");
+        }
+    }
+
+    @Benchmark
+    public int signUpConnectionPerCall() throws SQLException {
+        try (Connection conn = Database.getConnection()) {
+            return insert(conn);
+        }
+    }
+
+    @Benchmark
+    public int signUpReusedConnection(OpenConnection open) throws SQLException {
+        return insert(open.conn);
+    }
+
+    private int insert(Connection conn) throws SQLException {
+        long n = nextSignUp.incrementAndGet();
+        try (PreparedStatement pst = conn.prepareStatement(Queries.INSERT_USER_SIGNUP)) {
+            pst.setString(1, "Bench User");
+            pst.setString(2, "bench" + n + "@example.com");
+            pst.setString(3, "secret");
+            return pst.executeUpdate();
+        }
+    }
+
+    static boolean matches(Connection conn, String sql, String email, String password) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setString(1, email);
+            pst.setString(2, password);
+            try (ResultSet rs = pst.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+}
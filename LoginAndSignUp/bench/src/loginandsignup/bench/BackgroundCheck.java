@@ -0,0 +1,124 @@
+package loginandsignup.bench;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import loginandsignup.BackgroundImage;
+import loginandsignup.Icons;
+
+/**
+ * Startup cost and retained heap of the login background, the old way (the
+ * 4K JPEG decoded at full size into a {@link JLabel} icon) against
+ * {@link BackgroundImage}. Each variant runs in a fresh headless JVM so the
+ * first-paint time includes class loading and decoder warm-up.
+ * <pre>
+ *   ant background-check -Dbackground.args="width=1920 height=1080 repaints=200"
+ * </pre>
+ */
+public final class BackgroundCheck {
+
+    private static final String IMAGE = "/loginandsignup/QD-OLED-3840x2160_MAG.jpg";
+
+    private BackgroundCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int width = 1920;
+        int height = 1080;
+        int repaints = 200;
+        String variant = null;
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            switch (kv[0]) {
+                case "width" -> width = Integer.parseInt(kv[1]);
+                case "height" -> height = Integer.parseInt(kv[1]);
+                case "repaints" -> repaints = Integer.parseInt(kv[1]);
+                case "variant" -> variant = kv[1];
+                default -> System.err.println("Ignoring " + arg);
+            }
+        }
+        if (variant != null) {
+            measure(variant, width, height, repaints);
+            return;
+        }
+        System.out.printf("%-11s %14s %12s %14s %14s%n", "variant", "first paint ms", "repaint ms", "retained MB", "cache MB");
+        for (String v : new String[]{"label", "subsampled"}) {
+            fork(v, width, height, repaints);
+        }
+    }
+
+    private static void fork(String variant, int width, int height, int repaints) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        if (ManagementFactory.getRuntimeMXBean().getInputArguments().contains("--enable-preview")) {
+            command.add("--enable-preview");
+        }
+        command.add("-Djava.awt.headless=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(BackgroundCheck.class.getName());
+        command.add("variant=" + variant);
+        command.add("width=" + width);
+        command.add("height=" + height);
+        command.add("repaints=" + repaints);
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        if (!process.waitFor(2, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            throw new IllegalStateException(variant + " run failed");
+        }
+    }
+
+    private static void measure(String variant, int width, int height, int repaints) {
+        BufferedImage screen = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        long baseline = usedHeap();
+
+        long start = System.nanoTime();
+        JComponent background = variant.equals("label") ? label() : new BackgroundImage(IMAGE);
+        if (background instanceof BackgroundImage) {
+            background.setSize(width, height);
+        }
+        paint(background, screen);
+        long firstPaint = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < repaints; i++) {
+            paint(background, screen);
+        }
+        long repaint = (System.nanoTime() - start) / Math.max(1, repaints);
+
+        long retained = usedHeap() - baseline;
+        System.out.printf("%-11s %14.1f %12.3f %14.1f %14.1f%n", variant, firstPaint / 1e6, repaint / 1e6,
+                retained / 1048576.0, Icons.cachedBytes() / 1048576.0);
+        background.setName(null); // keep the component reachable until after the heap reading
+    }
+
+    /** The generated code this replaced: the image at full size, offset inside an oversized label. */
+    private static JLabel label() {
+        JLabel label = new JLabel(Icons.load(IMAGE));
+        label.setText("jLabel9");
+        label.setBounds(-1250, 0, 3490, 1110);
+        return label;
+    }
+
+    private static void paint(JComponent component, BufferedImage screen) {
+        Graphics2D g = screen.createGraphics();
+        try {
+            g.translate(component.getX(), component.getY());
+            component.paint(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,101 @@
+package loginandsignup.bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.table.DefaultTableModel;
+import loginandsignup.CatalogService;
+import loginandsignup.Database;
+import loginandsignup.Provider;
+import loginandsignup.Queries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The category query from {@code Table.fetchAndDisplayData}: join, map each
+ * row to {@code Object[]} and load it into the table model, with every
+ * provider in the benchmarked category.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CatalogBenchmark {
+
+    static final String SERVICE_TYPE = "Electrician Services";
+    static final String[] COLUMNS = {
+        "Name", "Email", "Service Type", "Village/City", "Contact Number", "Experience", "DOB"
+    };
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private final CatalogService catalog = new CatalogService();
+
+    @Setup(Level.Trial)
+    public void seed() throws Exception {
+        EmbeddedDatabase.reset();
+        EmbeddedDatabase.seedProviders(rows, SERVICE_TYPE);
+    }
+
+    /** Query and mapping only, rows collected into a list. */
+    @Benchmark
+    public List<Object[]> queryAndMap() throws SQLException {
+        List<Object[]> out = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.PROVIDERS_BY_CATEGORY)) {
+            pst.setInt(1, EmbeddedDatabase.categoryId(SERVICE_TYPE));
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    out.add(mapRow(rs));
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Through the service layer, as Table calls it. */
+    @Benchmark
+    public List<Provider> catalogService() throws SQLException {
+        return catalog.providersByService(SERVICE_TYPE);
+    }
+
+    /** Query and model load in one pass: addRow on a DefaultTableModel for every row read. */
+    @Benchmark
+    public DefaultTableModel queryIntoDefaultTableModel() throws SQLException {
+        DefaultTableModel model = new DefaultTableModel(COLUMNS, 0);
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.PROVIDERS_BY_CATEGORY)) {
+            pst.setInt(1, EmbeddedDatabase.categoryId(SERVICE_TYPE));
+            try (ResultSet rs = pst.executeQuery()) {
+                model.setRowCount(0);
+                while (rs.next()) {
+                    model.addRow(mapRow(rs));
+                }
+            }
+        }
+        return model;
+    }
+
+    static Object[] mapRow(ResultSet rs) throws SQLException {
+        return new Object[]{
+            rs.getString("name"),
+            rs.getString("email"),
+            rs.getString("service_type"),
+            rs.getString("address"),
+            rs.getString("contact_number"),
+            rs.getString("Experience"),
+            rs.getString("DOB")
+        };
+    }
+}
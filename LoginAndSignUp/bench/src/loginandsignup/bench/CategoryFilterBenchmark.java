@@ -0,0 +1,115 @@
+package loginandsignup.bench;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import loginandsignup.Catalog;
+import loginandsignup.CatalogDelta;
+import loginandsignup.CatalogReplica;
+import loginandsignup.Provider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Multi-category reads on a {@link CatalogReplica} where providers offer one
+ * to three categories. The bitmap variants combine the replica's
+ * per-category id bitmaps; the rows variants use the {@link Catalog}
+ * defaults, which fetch each category's rows and merge or filter them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryFilterBenchmark {
+
+    static final List<String> ANY = List.of("Home Cleaning", "Pest Control");
+    static final List<String> ALL = List.of("Painting Services", "Carpentry");
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private CatalogReplica replica;
+    private Catalog merging;
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException {
+        Random random = new Random(42);
+        String[] types = EmbeddedDatabase.SERVICE_TYPES;
+        List<CatalogDelta.Entry> entries = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            List<String> offered = new ArrayList<>();
+            int n = 1 + random.nextInt(3);
+            while (offered.size() < n) {
+                String type = types[random.nextInt(types.length)];
+                if (!offered.contains(type)) {
+                    offered.add(type);
+                }
+            }
+            entries.add(new CatalogDelta.Entry(i, false, new Provider(i, "Provider " + i,
+                    EmbeddedDatabase.providerEmail(i), offered.get(0), "Pune", "9800000000", "5", "1990-01-01", offered)));
+        }
+        CatalogDelta snapshot = new CatalogDelta(entries, true);
+        replica = new CatalogReplica(new Catalog() {
+            @Override
+            public List<Provider> providersByService(String serviceType) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Map<String, Integer> categories() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CatalogDelta changesSince(long version) {
+                return version < 0 ? snapshot : new CatalogDelta(List.of(), true);
+            }
+        });
+        replica.sync();
+        merging = new Catalog() {
+            @Override
+            public List<Provider> providersByService(String serviceType) throws SQLException {
+                return replica.providersByService(serviceType);
+            }
+
+            @Override
+            public Map<String, Integer> categories() throws SQLException {
+                return replica.categories();
+            }
+
+            @Override
+            public CatalogDelta changesSince(long version) throws SQLException {
+                return replica.changesSince(version);
+            }
+        };
+    }
+
+    @Benchmark
+    public List<Provider> anyOfBitmap() throws SQLException {
+        return replica.providersInAny(ANY);
+    }
+
+    @Benchmark
+    public List<Provider> anyOfRows() throws SQLException {
+        return merging.providersInAny(ANY);
+    }
+
+    @Benchmark
+    public List<Provider> allOfBitmap() throws SQLException {
+        return replica.providersInAll(ALL);
+    }
+
+    @Benchmark
+    public List<Provider> allOfRows() throws SQLException {
+        return merging.providersInAll(ALL);
+    }
+}
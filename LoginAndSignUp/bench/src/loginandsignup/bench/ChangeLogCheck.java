@@ -0,0 +1,199 @@
+package loginandsignup.bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import loginandsignup.CatalogEvents;
+import loginandsignup.CatalogService;
+import loginandsignup.CategoryRegistry;
+import loginandsignup.ChangeLogPoller;
+import loginandsignup.LatencyHistogram;
+import loginandsignup.ProfileService;
+import org.h2.tools.Server;
+
+/**
+ * Multi-JVM check of change-log invalidation. Several reader JVMs and one
+ * writer JVM share a file-backed H2 database served over TCP by this JVM,
+ * which keeps the file open for the whole run; the writer saves provider
+ * profiles through {@link ProfileService}, and every reader must see each one
+ * arrive on {@link CatalogEvents} via {@link ChangeLogPoller} within the
+ * bound.
+ * <pre>
+ *   ant changelog-check -Dchangelog.args="nodes=3 writes=50 poll=200"
+ * </pre>
+ * Exits non-zero if a reader missed a change or any delay exceeded
+ * {@code 2 * poll + 500} ms.
+ */
+public final class ChangeLogCheck {
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private ChangeLogCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("reader")) {
+            reader(Integer.parseInt(args[1]));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("writer")) {
+            writer(Integer.parseInt(args[1]));
+            return;
+        }
+        int nodes = 3;
+        int writes = 50;
+        long poll = 200;
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            switch (kv[0]) {
+                case "nodes" -> nodes = Integer.parseInt(kv[1]);
+                case "writes" -> writes = Integer.parseInt(kv[1]);
+                case "poll" -> poll = Long.parseLong(kv[1]);
+                default -> System.err.println("Ignoring " + arg);
+            }
+        }
+        System.exit(coordinate(nodes, writes, poll) ? 0 : 1);
+    }
+
+    private static boolean coordinate(int nodes, int writes, long poll) throws Exception {
+        Path dir = Files.createTempDirectory("lsf-changelog");
+        // one owner for the file; AUTO_SERVER handed it between JVMs on every connection
+        Server tcp = Server.createTcpServer("-tcpPort", "0", "-baseDir", dir.toString(), "-ifNotExists").start();
+        try {
+            return coordinate(nodes, writes, poll,
+                    "jdbc:h2:tcp://localhost:" + tcp.getPort() + "/ServiceApp;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        } finally {
+            tcp.stop();
+        }
+    }
+
+    private static boolean coordinate(int nodes, int writes, long poll, String url) throws Exception {
+        System.setProperty("lsf.db.url", url);
+        System.setProperty("lsf.db.user", "sa");
+        System.setProperty("lsf.db.password", "");
+        EmbeddedDatabase.reset();
+        EmbeddedDatabase.seedProviders(1, EmbeddedDatabase.SERVICE_TYPES); // a sign-up for the profiles to attach to
+
+        LatencyHistogram delays = new LatencyHistogram();
+        AtomicInteger seen = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(nodes);
+        List<Process> readers = new ArrayList<>();
+        List<Thread> pumps = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            Process reader = launch(url, poll, "reader", writes);
+            readers.add(reader);
+            String name = "reader-" + i;
+            Thread pump = new Thread(() -> pump(name, reader, ready, seen, delays), name);
+            pump.start();
+            pumps.add(pump);
+        }
+        if (!ready.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            System.err.println("Readers did not start");
+            readers.forEach(Process::destroy);
+            return false;
+        }
+
+        Process writer = launch(url, poll, "writer", writes);
+        writer.getInputStream().transferTo(System.out);
+        boolean wrote = writer.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS) && writer.exitValue() == 0;
+
+        boolean complete = wrote;
+        for (Process reader : readers) {
+            complete &= reader.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS) && reader.exitValue() == 0;
+            reader.destroy();
+        }
+        for (Thread pump : pumps) {
+            pump.join();
+        }
+
+        long bound = 2 * poll + 500;
+        long maxMillis = delays.maxMicros() / 1000;
+        System.out.printf("%d readers x %d writes: %d/%d delivered, delay p50 %d ms, p99 %d ms, max %d ms (bound %d ms)%n",
+                nodes, writes, seen.get(), nodes * writes, delays.percentileMicros(50) / 1000,
+                delays.percentileMicros(99) / 1000, maxMillis, bound);
+        boolean ok = complete && seen.get() == nodes * writes && maxMillis <= bound;
+        System.out.println(ok ? "PASS" : "FAIL");
+        return ok;
+    }
+
+    private static Process launch(String url, long poll, String role, int writes) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        if (ManagementFactory.getRuntimeMXBean().getInputArguments().contains("--enable-preview")) {
+            command.add("--enable-preview");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("-Dlsf.db.url=" + url);
+        command.add("-Dlsf.db.user=sa");
+        command.add("-Dlsf.db.password=");
+        command.add("-Dlsf.changelog.poll.ms=" + poll);
+        command.add(ChangeLogCheck.class.getName());
+        command.add(role);
+        command.add(Integer.toString(writes));
+        return new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    }
+
+    private static void pump(String name, Process reader, CountDownLatch ready, AtomicInteger seen,
+            LatencyHistogram delays) {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(reader.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.equals("READY")) {
+                    ready.countDown();
+                } else if (line.startsWith("SEEN ")) {
+                    seen.incrementAndGet();
+                    delays.recordMicros(Long.parseLong(line.substring(5).trim()) * 1000);
+                } else {
+                    System.out.println(name + ": " + line);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /** Prints one SEEN line per remote change, with its delay in ms, until all writes arrived. */
+    private static void reader(int writes) throws InterruptedException, SQLException {
+        CountDownLatch remaining = new CountDownLatch(writes);
+        CatalogEvents.subscribe(change -> {
+            long sent = Long.parseLong(change.provider().experience());
+            System.out.println("SEEN " + (System.currentTimeMillis() - sent));
+            remaining.countDown();
+        });
+        // the poller's lookups go through the same code, so warm it before the clock starts
+        new CatalogService().providersByService(EmbeddedDatabase.SERVICE_TYPES[0]);
+        ChangeLogPoller.start();
+        while (ChangeLogPoller.POLLS.sum() == 0) {
+            Thread.sleep(10); // the watermark is set before the first poll
+        }
+        System.out.println("READY");
+        System.exit(remaining.await(TIMEOUT_SECONDS, TimeUnit.SECONDS) ? 0 : 1);
+    }
+
+    /** Saves profiles whose experience field carries the send time. */
+    private static void writer(int writes) throws Exception {
+        ProfileService profiles = new ProfileService();
+        // connect and load the categories first, so the first delay is not this JVM starting up
+        CategoryRegistry.get();
+        for (int i = 0; i < writes; i++) {
+            String serviceType = EmbeddedDatabase.SERVICE_TYPES[i % EmbeddedDatabase.SERVICE_TYPES.length];
+            profiles.saveProviderProfile("Pune", "9800000000", new Date(),
+                    Long.toString(System.currentTimeMillis()), serviceType);
+            Thread.sleep(20);
+        }
+        System.out.println("writer: " + writes + " profiles saved");
+    }
+}
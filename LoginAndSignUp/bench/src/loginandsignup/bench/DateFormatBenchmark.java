@@ -0,0 +1,42 @@
+package loginandsignup.bench;
+
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/** DOB formatting as in {@code UserForm} and {@code AdminForm} against cached formatters. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateFormatBenchmark {
+
+    private static final ThreadLocal<SimpleDateFormat> CACHED =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy-MM-dd"));
+
+    private final Date dob = new Date(631_152_000_000L);
+
+    /** What the forms do: a new SimpleDateFormat for every submit. */
+    @Benchmark
+    public String newSimpleDateFormat() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        return dateFormat.format(dob);
+    }
+
+    @Benchmark
+    public String threadLocalSimpleDateFormat() {
+        return CACHED.get().format(dob);
+    }
+
+    @Benchmark
+    public String isoLocalDate() {
+        return DateTimeFormatter.ISO_LOCAL_DATE.format(dob.toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+    }
+}
@@ -0,0 +1,138 @@
+package loginandsignup.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import loginandsignup.CategoryRegistry;
+import loginandsignup.Database;
+import loginandsignup.Queries;
+
+/**
+ * H2 stand-in for the ServiceApp MySQL database. The benchmark JVMs are
+ * started with {@code -Dlsf.db.url} pointing here, so {@link Database} and
+ * everything built on it talk to this database instead of MySQL.
+ */
+public final class EmbeddedDatabase {
+
+    public static final String URL = "jdbc:h2:mem:ServiceApp;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    public static final String[] SERVICE_TYPES = {
+        "plumbing Services", "Electrician Services", "Car Repair", "Carpentry", "Appliance Repair",
+        "Painting Services", "Home Cleaning", "Pest Control", "Beauty and salon Services",
+        "Tailoring and Alteration", "Yoga and Meditation", "Home Tutor", "Heir Styling", "Makeup Artist"
+    };
+
+    private EmbeddedDatabase() {
+    }
+
+    /** Drops everything and recreates the schema from db/ServiceApp.sql. */
+    public static void reset() throws SQLException, IOException {
+        try (Connection conn = Database.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("DROP ALL OBJECTS");
+            // comments first: they may contain semicolons
+            for (String sql : stripComments(schema()).split(";")) {
+                if (!sql.isBlank()) {
+                    st.execute(sql);
+                }
+            }
+        }
+    }
+
+    public static void seedUsers(int count) throws SQLException {
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.INSERT_USER_SIGNUP)) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                pst.setString(1, "User " + i);
+                pst.setString(2, userEmail(i));
+                pst.setString(3, "secret" + i);
+                pst.addBatch();
+                if (i % 10_000 == 9_999) {
+                    pst.executeBatch();
+                }
+            }
+            pst.executeBatch();
+            conn.commit();
+        }
+    }
+
+    /**
+     * Inserts {@code count} providers (sign-up, profile row and its one
+     * category). With a single service type every provider lands in the same
+     * category.
+     */
+    public static void seedProviders(int count, String... serviceTypes) throws SQLException {
+        try (Connection conn = Database.getConnection();
+             PreparedStatement signUp = conn.prepareStatement(Queries.INSERT_PROVIDER_SIGNUP);
+             PreparedStatement profile = conn.prepareStatement(Queries.INSERT_PROVIDER_PROFILE)) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < count; i++) {
+                String email = providerEmail(i);
+                signUp.setString(1, "Provider " + i);
+                signUp.setString(2, email);
+                signUp.setString(3, "secret" + i);
+                signUp.addBatch();
+                profile.setString(1, email);
+                profile.setString(2, "Village " + (i % 500));
+                profile.setString(3, String.format("98%08d", i % 100_000_000));
+                profile.setString(4, (1960 + i % 45) + "-0" + (1 + i % 9) + "-1" + (i % 10));
+                profile.setString(5, serviceTypes[i % serviceTypes.length]);
+                profile.setString(6, Integer.toString(i % 30));
+                profile.setInt(7, categoryId(serviceTypes[i % serviceTypes.length]));
+                profile.addBatch();
+                if (i % 10_000 == 9_999) {
+                    signUp.executeBatch();
+                    profile.executeBatch();
+                }
+            }
+            signUp.executeBatch();
+            profile.executeBatch();
+            try (Statement st = conn.createStatement()) {
+                st.executeUpdate("INSERT INTO ProviderCategories (provider_id, category_id) "
+                        + "SELECT id, category_id FROM ServiceProviders WHERE NOT EXISTS "
+                        + "(SELECT 1 FROM ProviderCategories WHERE ProviderCategories.provider_id = ServiceProviders.id)");
+            }
+            conn.commit();
+        }
+    }
+
+    /** The {@code ServiceCategories.id} seeded for a service type. */
+    public static int categoryId(String serviceType) throws SQLException {
+        CategoryRegistry.Category category = CategoryRegistry.get().byServiceType(serviceType);
+        if (category == null) {
+            throw new SQLException("No seeded category for " + serviceType);
+        }
+        return category.id();
+    }
+
+    public static String userEmail(int i) {
+        return "user" + i + "@example.com";
+    }
+
+    public static String providerEmail(int i) {
+        return "provider" + i + "@example.com";
+    }
+
+    private static String schema() throws IOException {
+        try (InputStream in = EmbeddedDatabase.class.getResourceAsStream("/ServiceApp.sql")) {
+            if (in == null) {
+                throw new IOException("ServiceApp.sql is not on the benchmark classpath");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String stripComments(String sql) {
+        StringBuilder out = new StringBuilder();
+        for (String line : sql.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                out.append(line).append('\n');
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,144 @@
+package loginandsignup.bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JFrame;
+import loginandsignup.AuthService;
+import loginandsignup.CatalogService;
+import loginandsignup.Database;
+import loginandsignup.LeakTracker;
+import loginandsignup.Queries;
+import loginandsignup.RegistrationService;
+
+/**
+ * Fails (exit 1) if JDBC objects leak. Runs the service read and write paths
+ * against the embedded database and requires that nothing they opened is
+ * still tracked afterwards, that statements closed on a long-lived
+ * connection do not pile up, that statements deliberately left open are
+ * reported by {@link LeakTracker} with a creation stack when sampled, and
+ * that everything a window left open is reported when it is disposed,
+ * sampled or not. Runs with the default sampling.
+ * <pre>
+ *   ant leak-check
+ * </pre>
+ */
+public final class LeakCheck {
+
+    private LeakCheck() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("lsf.db.url", EmbeddedDatabase.URL);
+        System.setProperty("lsf.db.user", "sa");
+        System.setProperty("lsf.db.password", "");
+        System.setProperty("lsf.leaks.deadline.ms", "0");
+        EmbeddedDatabase.reset();
+        EmbeddedDatabase.seedUsers(10);
+        EmbeddedDatabase.seedProviders(10, EmbeddedDatabase.SERVICE_TYPES);
+
+        int failures = 0;
+        new AuthService().login(EmbeddedDatabase.userEmail(3), "secret3");
+        new AuthService().login(EmbeddedDatabase.userEmail(3), "wrong");
+        new RegistrationService().signUpUser("Leak Check", "leak.check@example.com", "secret1", "secret1");
+        CatalogService catalog = new CatalogService();
+        catalog.providersByService(EmbeddedDatabase.SERVICE_TYPES[0]);
+        catalog.categories();
+        catalog.changesSince(-1);
+        failures += expectOpen("after the service paths", 0);
+
+        try (Connection conn = Database.getConnection()) {
+            for (int i = 0; i < 1000; i++) {
+                try (PreparedStatement pst = conn.prepareStatement(Queries.LOGIN_USER)) {
+                    pst.setString(1, EmbeddedDatabase.userEmail(i % 10));
+                    pst.setString(2, "secret" + (i % 10));
+                    try (ResultSet rs = pst.executeQuery()) {
+                        rs.next();
+                    }
+                }
+            }
+            failures += expectOpen("with one connection after 1000 closed statements", 1);
+        }
+
+        // one in every SAMPLE consecutive objects records its stack
+        int sample = Integer.getInteger("lsf.leaks.sample", 16);
+        Connection conn = Database.getConnection();
+        List<PreparedStatement> leaked = new ArrayList<>();
+        for (int i = 0; i < sample; i++) {
+            leaked.add(conn.prepareStatement(Queries.LOGIN_USER));
+        }
+        int reported = LeakTracker.reportOverdue();
+        boolean located = false;
+        for (LeakTracker.Handle handle : LeakTracker.open()) {
+            for (StackTraceElement frame : handle.origin()) {
+                located |= frame.getClassName().equals(LeakCheck.class.getName());
+            }
+        }
+        if (reported < sample + 1 || !located) {
+            System.out.println("FAIL unclosed statements were not reported with a sampled stack (" + reported + " reported)");
+            failures++;
+        } else {
+            System.out.println("ok   " + reported + " unclosed objects reported, a sampled one with its stack");
+        }
+        for (PreparedStatement pst : leaked) {
+            pst.close();
+        }
+        conn.close();
+        failures += expectOpen("after closing the leaked statements", 0);
+
+        List<AutoCloseable> screenLeaks = LeakyScreen.open(3);
+        PreparedStatement elsewhere;
+        try (Connection other = Database.getConnection()) {
+            elsewhere = other.prepareStatement(Queries.LOGIN_USER);
+            int disposed = LeakTracker.reportCreatedBy(LeakyScreen.class);
+            if (disposed != screenLeaks.size()) {
+                System.out.println("FAIL " + disposed + " objects reported when the window was disposed, expected "
+                        + screenLeaks.size());
+                failures++;
+            } else {
+                System.out.println("ok   " + disposed + " objects left open by a disposed window reported");
+            }
+            elsewhere.close();
+        }
+        for (int i = screenLeaks.size() - 1; i >= 0; i--) {
+            screenLeaks.get(i).close();
+        }
+        failures += expectOpen("after closing the window's leaks", 0);
+
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    /** Stands in for a screen that opens JDBC objects and never closes them; never shown. */
+    private static final class LeakyScreen extends JFrame {
+
+        /** A connection and {@code statements} statements on it, none closed. */
+        static List<AutoCloseable> open(int statements) throws SQLException {
+            List<AutoCloseable> opened = new ArrayList<>();
+            Connection conn = Database.getConnection();
+            opened.add(conn);
+            for (int i = 0; i < statements; i++) {
+                opened.add(conn.prepareStatement(Queries.LOGIN_USER));
+            }
+            return opened;
+        }
+    }
+
+    private static int expectOpen(String when, int expected) {
+        List<LeakTracker.Handle> open = LeakTracker.open();
+        if (open.size() == expected) {
+            System.out.println("ok   " + expected + " open " + when);
+            return 0;
+        }
+        System.out.println("FAIL " + open.size() + " open " + when + ", expected " + expected);
+        for (LeakTracker.Handle handle : open) {
+            StackTraceElement[] origin = handle.origin();
+            System.out.println("     " + handle.kind() + (origin.length > 2 ? " from " + origin[2] : ""));
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,251 @@
+package loginandsignup.bench;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import loginandsignup.AuthService;
+import loginandsignup.CatalogService;
+import loginandsignup.LatencyHistogram;
+import loginandsignup.ProfileService;
+import loginandsignup.RegistrationService;
+import loginandsignup.ValidationException;
+
+/**
+ * Headless load generator driving the same services the forms call:
+ * login ({@link AuthService}), sign-up ({@link RegistrationService}),
+ * provider profile submit ({@link ProfileService}) and category browse
+ * ({@link CatalogService}). Each client is a virtual thread running actions
+ * back to back.
+ * <p>
+ * Arguments are {@code key=value}:
+ * <pre>
+ *   clients=64 duration=30 warmup=5 mix=login:60,signup:10,profile:10,browse:20
+ *   users=10000 providers=2000 miss=10 db=embedded|external
+ * </pre>
+ * With {@code db=embedded} (the default) an H2 copy of the schema is created
+ * and seeded. With {@code db=external} the {@code lsf.db.*} properties are
+ * used as-is and the seed is only written when {@code seed=true}.
+ */
+public final class LoadTest {
+
+    enum Action {
+        LOGIN, SIGNUP, PROFILE, BROWSE
+    }
+
+    private final int clients;
+    private final long durationNanos;
+    private final long warmupNanos;
+    private final Action[] schedule;
+    private final int users;
+    private final int providers;
+    private final int missPercent;
+
+    private final Map<Action, LatencyHistogram> latency = new EnumMap<>(Action.class);
+    private final Map<Action, LongAdder> errors = new EnumMap<>(Action.class);
+    private final Map<Action, LongAdder> attempts = new EnumMap<>(Action.class);
+    private final AtomicLong nextAccount = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private volatile boolean measuring;
+
+    private final AuthService auth = new AuthService();
+    private final RegistrationService registration = new RegistrationService();
+    private final ProfileService profiles = new ProfileService();
+    private final CatalogService catalog = new CatalogService();
+
+    LoadTest(Map<String, String> options) {
+        clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("duration", "30")));
+        warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.getOrDefault("warmup", "5")));
+        schedule = parseMix(options.getOrDefault("mix", "login:60,signup:10,profile:10,browse:20"));
+        users = Integer.parseInt(options.getOrDefault("users", "10000"));
+        providers = Integer.parseInt(options.getOrDefault("providers", "2000"));
+        missPercent = Integer.parseInt(options.getOrDefault("miss", "10"));
+        for (Action action : Action.values()) {
+            latency.put(action, new LatencyHistogram());
+            errors.put(action, new LongAdder());
+            attempts.put(action, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                System.err.println("Ignoring argument without '=': " + arg);
+                continue;
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        boolean embedded = !"external".equals(options.getOrDefault("db", "embedded"));
+        if (embedded) {
+            // Must be set before Database is first touched.
+            System.setProperty("lsf.db.url", EmbeddedDatabase.URL);
+            System.setProperty("lsf.db.user", "sa");
+            System.setProperty("lsf.db.password", "");
+        }
+        LoadTest test = new LoadTest(options);
+        if (embedded) {
+            EmbeddedDatabase.reset();
+        }
+        if (embedded || Boolean.parseBoolean(options.get("seed"))) {
+            EmbeddedDatabase.seedUsers(test.users);
+            EmbeddedDatabase.seedProviders(test.providers, EmbeddedDatabase.SERVICE_TYPES);
+        }
+        test.run();
+    }
+
+    void run() throws InterruptedException {
+        System.out.printf("%d clients, %d s warm-up, %d s measured, mix %s%n", clients,
+                TimeUnit.NANOSECONDS.toSeconds(warmupNanos), TimeUnit.NANOSECONDS.toSeconds(durationNanos), describeMix());
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long stopAt = measureFrom + durationNanos;
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                pool.submit(() -> client(stopAt));
+            }
+            sleepUntil(measureFrom);
+            measuring = true;
+            long measuredStart = System.nanoTime();
+            while (System.nanoTime() < stopAt) {
+                sleepUntil(Math.min(stopAt, System.nanoTime() + TimeUnit.SECONDS.toNanos(5)));
+                System.out.printf("  %3d s  %8d ops%n", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - measuredStart), total());
+            }
+        }
+        report();
+    }
+
+    private void client(long stopAt) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < stopAt) {
+            Action action = schedule[random.nextInt(schedule.length)];
+            boolean counted = measuring;
+            long begin = System.nanoTime();
+            try {
+                perform(action, random);
+            } catch (SQLException | ValidationException | RuntimeException e) {
+                if (counted) {
+                    errors.get(action).increment();
+                }
+            }
+            if (counted) {
+                latency.get(action).recordNanos(System.nanoTime() - begin);
+                attempts.get(action).increment();
+            }
+        }
+    }
+
+    private void perform(Action action, ThreadLocalRandom random) throws SQLException, ValidationException {
+        switch (action) {
+            case LOGIN -> login(random);
+            case SIGNUP -> signUp(random);
+            case PROFILE -> providerProfile(random);
+            case BROWSE -> browse(random);
+        }
+    }
+
+    private void login(ThreadLocalRandom random) throws SQLException, ValidationException {
+        int i = random.nextInt(users);
+        String password = random.nextInt(100) < missPercent ? "wrong" : "secret" + i;
+        auth.login(EmbeddedDatabase.userEmail(i), password);
+    }
+
+    /** User or provider sign-up, half each. */
+    private void signUp(ThreadLocalRandom random) throws SQLException, ValidationException {
+        String email = "load-" + runId + "-" + nextAccount.incrementAndGet() + "@example.com";
+        boolean created = random.nextBoolean()
+                ? registration.signUpProvider("Load Test", email, "secret", "secret")
+                : registration.signUpUser("Load Test", email, "secret", "secret");
+        if (!created) {
+            throw new SQLException("Sign-up affected no rows");
+        }
+    }
+
+    /** AdminForm: profile attached to the newest provider sign-up. */
+    private void providerProfile(ThreadLocalRandom random) throws SQLException, ValidationException {
+        String serviceType = EmbeddedDatabase.SERVICE_TYPES[random.nextInt(EmbeddedDatabase.SERVICE_TYPES.length)];
+        if (!profiles.saveProviderProfile("Pune", "9800000000", new Date(631_152_000_000L),
+                Integer.toString(random.nextInt(30)), serviceType)) {
+            throw new SQLException("Profile insert affected no rows");
+        }
+    }
+
+    /** Table: every provider in one category. */
+    private void browse(ThreadLocalRandom random) throws SQLException {
+        catalog.providersByService(EmbeddedDatabase.SERVICE_TYPES[random.nextInt(EmbeddedDatabase.SERVICE_TYPES.length)]);
+    }
+
+    private void report() {
+        double seconds = durationNanos / 1e9;
+        System.out.printf("%n%-8s %10s %10s %8s %9s %9s %9s %9s%n",
+                "action", "ops", "ops/s", "err %", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        long all = 0;
+        long allErrors = 0;
+        for (Action action : Action.values()) {
+            long n = attempts.get(action).sum();
+            if (n == 0) {
+                continue;
+            }
+            long failed = errors.get(action).sum();
+            LatencyHistogram h = latency.get(action);
+            all += n;
+            allErrors += failed;
+            System.out.printf("%-8s %10d %10.1f %8.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    action.name().toLowerCase(), n, n / seconds, 100.0 * failed / n,
+                    h.percentileMicros(50) / 1e3, h.percentileMicros(95) / 1e3,
+                    h.percentileMicros(99) / 1e3, h.maxMicros() / 1e3);
+        }
+        System.out.printf("%-8s %10d %10.1f %8.2f%n", "total", all, all / seconds, all == 0 ? 0.0 : 100.0 * allErrors / all);
+    }
+
+    private long total() {
+        long n = 0;
+        for (LongAdder adder : attempts.values()) {
+            n += adder.sum();
+        }
+        return n;
+    }
+
+    /** Expands {@code login:60,browse:40} into a 100-slot table picked from uniformly. */
+    static Action[] parseMix(String mix) {
+        List<Action> slots = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split(":");
+            Action action = Action.valueOf(kv[0].trim().toUpperCase());
+            int weight = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                slots.add(action);
+            }
+        }
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("Empty mix: " + mix);
+        }
+        return slots.toArray(new Action[0]);
+    }
+
+    private String describeMix() {
+        Map<Action, Integer> weights = new EnumMap<>(Action.class);
+        for (Action action : schedule) {
+            weights.merge(action, 1, Integer::sum);
+        }
+        return weights.toString().toLowerCase();
+    }
+
+    private static void sleepUntil(long deadline) throws InterruptedException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package loginandsignup.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Loading already-mapped rows into a table model: {@code addRow} per row
+ * (one event each) against a single bulk load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TableModelBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private List<Object[]> data;
+
+    @Setup(Level.Trial)
+    public void build() {
+        data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(new Object[]{
+                "Provider " + i, "provider" + i + "@example.com", CatalogBenchmark.SERVICE_TYPE,
+                "Village " + (i % 500), "9800000000", Integer.toString(i % 30), "1990-01-01"
+            });
+        }
+    }
+
+    @Benchmark
+    public DefaultTableModel addRowPerRow() {
+        DefaultTableModel model = new DefaultTableModel(CatalogBenchmark.COLUMNS, 0);
+        for (Object[] row : data) {
+            model.addRow(row);
+        }
+        return model;
+    }
+
+    @Benchmark
+    public DefaultTableModel setDataVectorOnce() {
+        Vector<Vector<Object>> vectors = new Vector<>(data.size());
+        for (Object[] row : data) {
+            Vector<Object> v = new Vector<>(row.length);
+            for (Object cell : row) {
+                v.add(cell);
+            }
+            vectors.add(v);
+        }
+        DefaultTableModel model = new DefaultTableModel();
+        Vector<Object> columns = new Vector<>(List.of((Object[]) CatalogBenchmark.COLUMNS));
+        model.setDataVector(vectors, columns);
+        return model;
+    }
+
+    @Benchmark
+    public AbstractTableModel arrayListModel() {
+        ArrayModel model = new ArrayModel();
+        model.setRows(new ArrayList<>(data));
+        return model;
+    }
+
+    static final class ArrayModel extends AbstractTableModel {
+
+        private List<Object[]> rows = List.of();
+
+        void setRows(List<Object[]> rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return CatalogBenchmark.COLUMNS.length;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            return rows.get(row)[column];
+        }
+    }
+}
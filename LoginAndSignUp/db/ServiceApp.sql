@@ -0,0 +1,101 @@
+-- Reference schema for the ServiceApp database, matching the columns the
+-- forms read and write. Used to create the embedded databases for the
+-- benchmarks and load tests; MySQL and H2 (MODE=MySQL) both accept it.
+
+CREATE TABLE UserSignUp (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL
+);
+CREATE INDEX idx_usersignup_email ON UserSignUp (email);
+
+CREATE TABLE Users (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    address VARCHAR(255) NOT NULL,
+    contact_number VARCHAR(20) NOT NULL,
+    DOB DATE NOT NULL
+);
+
+CREATE TABLE ServiceProvidersSignUp (
+    provider_id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL
+);
+CREATE INDEX idx_providersignup_email ON ServiceProvidersSignUp (email);
+
+-- Service categories shown on the Categories screen and offered in AdminForm.
+-- service_type is the key stored on ServiceProviders and in the change log;
+-- icon is a resource path; the build keeps the image in the jar because a
+-- script under db/ names it, so insert new categories from a script there.
+CREATE TABLE ServiceCategories (
+    id INT PRIMARY KEY,
+    service_type VARCHAR(100) NOT NULL UNIQUE,
+    display_name VARCHAR(100) NOT NULL,
+    section VARCHAR(100) NOT NULL,
+    icon VARCHAR(255),
+    sort_order INT NOT NULL DEFAULT 0
+);
+INSERT INTO ServiceCategories (id, service_type, display_name, section, icon, sort_order) VALUES
+    (1, 'plumbing Services', 'Plumbing Services', 'Home Repair and Maintenance', '/loginandsignup/plumber1.png', 1),
+    (2, 'Electrician Services', 'Electrician Services', 'Home Repair and Maintenance', '/loginandsignup/electrician1.png', 5),
+    (3, 'Car Repair', 'Car Repair', 'Home Repair and Maintenance', '/loginandsignup/car repair.png', 8),
+    (4, 'Carpentry', 'Carpentry', 'Home Repair and Maintenance', NULL, 3),
+    (5, 'Appliance Repair', 'Appliance Repair', 'Home Repair and Maintenance', '/loginandsignup/appliance repair.png', 6),
+    (6, 'Painting Services', 'Painting Services', 'Home Repair and Maintenance', NULL, 7),
+    (7, 'Home Cleaning', 'Home Cleaning', 'Home Repair and Maintenance', '/loginandsignup/home cleaning.png', 2),
+    (8, 'Pest Control', 'Pest Control', 'Home Repair and Maintenance', '/loginandsignup/pest control.png', 4),
+    (9, 'Beauty and salon Services', 'Beauty and Salon Services', 'Personal Services', '/loginandsignup/saloon.png', 9),
+    (10, 'Tailoring and Alteration', 'Tailoring and Alterations', 'Personal Services', '/loginandsignup/altering.png', 11),
+    (11, 'Yoga and Meditation', 'Yoga and Meditation', 'Personal Services', NULL, 13),
+    (12, 'Home Tutor', 'Home Tutor', 'Personal Services', '/loginandsignup/home teacher.png', 10),
+    (13, 'Heir Styling', 'Hair Styling', 'Personal Services', NULL, 12),
+    (14, 'Makeup Artist', 'Makeup Artist', 'Personal Services', '/loginandsignup/beauty makeup.png', 14);
+
+CREATE TABLE ServiceProviders (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    contact_number VARCHAR(20) NOT NULL,
+    DOB DATE NOT NULL,
+    service_type VARCHAR(100) NOT NULL,
+    Experience VARCHAR(50) NOT NULL,
+    -- ServiceCategories.id of service_type, the primary category; ProviderCategories lists all of them
+    category_id INT NOT NULL,
+    -- CatalogChangeLog id of the last change; replicas sync rows above their watermark
+    version BIGINT NOT NULL DEFAULT 0,
+    -- soft delete, kept as a tombstone so replicas see the removal
+    deleted TINYINT NOT NULL DEFAULT 0
+);
+CREATE INDEX idx_providers_category ON ServiceProviders (category_id);
+CREATE INDEX idx_providers_email ON ServiceProviders (email);
+CREATE INDEX idx_providers_version ON ServiceProviders (version);
+
+-- Every category a provider offers, the primary one (category_id) included.
+CREATE TABLE ProviderCategories (
+    provider_id INT NOT NULL,
+    category_id INT NOT NULL,
+    PRIMARY KEY (provider_id, category_id)
+);
+CREATE INDEX idx_provider_categories_category ON ProviderCategories (category_id, provider_id);
+
+-- One row per provider write, committed with it. Other app instances poll
+-- for ids above their watermark (ChangeLogPoller) to refresh their caches.
+CREATE TABLE CatalogChangeLog (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity VARCHAR(64) NOT NULL,
+    row_id BIGINT NOT NULL,
+    email VARCHAR(255),
+    service_type VARCHAR(100),
+    change_kind VARCHAR(16) NOT NULL,
+    node VARCHAR(64) NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Sequence for ServiceProviders.version. Only provider writes take an id,
+-- so replicas see no permanent holes in the versions they follow.
+CREATE TABLE ProviderVersions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    change_id BIGINT NOT NULL
+);
@@ -0,0 +1,14 @@
+-- Adds the change log used for cross-instance cache invalidation to an
+-- existing ServiceApp database. Provider sign-ups and profile saves write
+-- to it, so apply this before deploying a build that contains it.
+
+CREATE TABLE IF NOT EXISTS CatalogChangeLog (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity VARCHAR(64) NOT NULL,
+    row_id BIGINT NOT NULL,
+    email VARCHAR(255),
+    service_type VARCHAR(100),
+    change_kind VARCHAR(16) NOT NULL,
+    node VARCHAR(64) NOT NULL,
+    changed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
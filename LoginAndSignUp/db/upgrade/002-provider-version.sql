@@ -0,0 +1,8 @@
+-- Adds the version and tombstone columns used for catalog delta sync.
+-- Existing rows keep version 0 and are picked up by each replica's initial
+-- snapshot; only clients that set versions should write providers after
+-- this is applied.
+
+ALTER TABLE ServiceProviders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE ServiceProviders ADD COLUMN deleted TINYINT NOT NULL DEFAULT 0;
+CREATE INDEX idx_providers_version ON ServiceProviders (version);
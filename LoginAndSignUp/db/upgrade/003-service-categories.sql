@@ -0,0 +1,57 @@
+-- Moves the service categories into a ServiceCategories table and gives
+-- every provider a category_id, which the listing queries now filter on.
+-- service_type stays on ServiceProviders and in the change log as the
+-- category key. Apply before deploying a build that contains it. Safe to
+-- run again, e.g. after fixing the providers it stops on.
+
+CREATE TABLE IF NOT EXISTS ServiceCategories (
+    id INT PRIMARY KEY,
+    service_type VARCHAR(100) NOT NULL UNIQUE,
+    display_name VARCHAR(100) NOT NULL,
+    section VARCHAR(100) NOT NULL,
+    icon VARCHAR(255),
+    sort_order INT NOT NULL DEFAULT 0
+);
+INSERT IGNORE INTO ServiceCategories (id, service_type, display_name, section, icon, sort_order) VALUES
+    (1, 'plumbing Services', 'Plumbing Services', 'Home Repair and Maintenance', '/loginandsignup/plumber1.png', 1),
+    (2, 'Electrician Services', 'Electrician Services', 'Home Repair and Maintenance', '/loginandsignup/electrician1.png', 5),
+    (3, 'Car Repair', 'Car Repair', 'Home Repair and Maintenance', '/loginandsignup/car repair.png', 8),
+    (4, 'Carpentry', 'Carpentry', 'Home Repair and Maintenance', NULL, 3),
+    (5, 'Appliance Repair', 'Appliance Repair', 'Home Repair and Maintenance', '/loginandsignup/appliance repair.png', 6),
+    (6, 'Painting Services', 'Painting Services', 'Home Repair and Maintenance', NULL, 7),
+    (7, 'Home Cleaning', 'Home Cleaning', 'Home Repair and Maintenance', '/loginandsignup/home cleaning.png', 2),
+    (8, 'Pest Control', 'Pest Control', 'Home Repair and Maintenance', '/loginandsignup/pest control.png', 4),
+    (9, 'Beauty and salon Services', 'Beauty and Salon Services', 'Personal Services', '/loginandsignup/saloon.png', 9),
+    (10, 'Tailoring and Alteration', 'Tailoring and Alterations', 'Personal Services', '/loginandsignup/altering.png', 11),
+    (11, 'Yoga and Meditation', 'Yoga and Meditation', 'Personal Services', NULL, 13),
+    (12, 'Home Tutor', 'Home Tutor', 'Personal Services', '/loginandsignup/home teacher.png', 10),
+    (13, 'Heir Styling', 'Hair Styling', 'Personal Services', NULL, 12),
+    (14, 'Makeup Artist', 'Makeup Artist', 'Personal Services', '/loginandsignup/beauty makeup.png', 14);
+
+-- MySQL has no ADD COLUMN / CREATE INDEX IF NOT EXISTS, so each is skipped
+-- when information_schema shows an earlier run already made it.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+        WHERE table_schema = DATABASE() AND table_name = 'ServiceProviders' AND column_name = 'category_id') = 0,
+    'ALTER TABLE ServiceProviders ADD COLUMN category_id INT NULL', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
+UPDATE ServiceProviders
+    INNER JOIN ServiceCategories ON ServiceCategories.service_type = ServiceProviders.service_type
+    SET ServiceProviders.category_id = ServiceCategories.id;
+
+-- Providers whose service_type names no category. They are listed here and
+-- the NOT NULL below fails on them, rather than filing them under a category
+-- no listing shows; fix their service_type or add the category, then run
+-- this script again. Strict mode makes the ALTER fail instead of writing 0.
+SELECT id, email, service_type AS unknown_service_type FROM ServiceProviders WHERE category_id IS NULL;
+SET SESSION sql_mode = CONCAT_WS(',', NULLIF(@@SESSION.sql_mode, ''), 'STRICT_ALL_TABLES');
+ALTER TABLE ServiceProviders MODIFY category_id INT NOT NULL;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = 'ServiceProviders' AND index_name = 'idx_providers_category') = 0,
+    'CREATE INDEX idx_providers_category ON ServiceProviders (category_id)', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
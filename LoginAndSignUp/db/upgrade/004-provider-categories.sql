@@ -0,0 +1,20 @@
+-- Lets a provider offer several categories. Existing providers get one
+-- row for their current category; listings and counts read this table
+-- from now on, so apply it before deploying a build that contains it.
+-- Safe to run again.
+
+CREATE TABLE IF NOT EXISTS ProviderCategories (
+    provider_id INT NOT NULL,
+    category_id INT NOT NULL,
+    PRIMARY KEY (provider_id, category_id)
+);
+-- MySQL has no CREATE INDEX IF NOT EXISTS.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = 'ProviderCategories'
+            AND index_name = 'idx_provider_categories_category') = 0,
+    'CREATE INDEX idx_provider_categories_category ON ProviderCategories (category_id, provider_id)', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+INSERT IGNORE INTO ProviderCategories (provider_id, category_id)
+    SELECT id, category_id FROM ServiceProviders;
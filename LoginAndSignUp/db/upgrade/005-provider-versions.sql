@@ -0,0 +1,10 @@
+-- Provider versions come from their own sequence instead of CatalogChangeLog
+-- ids, which sign-ups also consume. The sequence starts above the highest
+-- version already written so replicas keep moving forward.
+
+CREATE TABLE IF NOT EXISTS ProviderVersions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    change_id BIGINT NOT NULL
+);
+INSERT IGNORE INTO ProviderVersions (id, change_id)
+    SELECT MAX(version), 0 FROM ServiceProviders HAVING MAX(version) > 0;
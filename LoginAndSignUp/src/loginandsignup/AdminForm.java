@@ -1,20 +1,27 @@
 
 package loginandsignup;
-import java.text.SimpleDateFormat;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import javax.swing.JOptionPane;
+import java.util.ArrayList;
 import java.util.Date;
-import java.sql.ResultSet;
+import java.util.List;
 
 
 
 public class AdminForm extends javax.swing.JFrame {
 
+    private final ProfileService profiles = new ProfileService();
+
     public AdminForm() {
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
         initComponents();
+        opening.componentsReady();
+        try {
+            box.setListData(CategoryRegistry.get().all().toArray(new CategoryRegistry.Category[0]));
+        } catch (SQLException e) {
+            JOptionPane.showMessageDialog(this, "Could not load service categories: " + e.getMessage());
+        }
+        opening.finish();
     }
 
 
@@ -40,7 +47,8 @@ public class AdminForm extends javax.swing.JFrame {
         jButton1 = new javax.swing.JButton();
         experience = new javax.swing.JTextField();
         jLabel7 = new javax.swing.JLabel();
-        box = new javax.swing.JComboBox<>();
+        boxScroll = new javax.swing.JScrollPane();
+        box = new javax.swing.JList<>();
         jDateChooser2 = new com.toedter.calendar.JDateChooser();
         jPanel5 = new javax.swing.JPanel();
 
@@ -51,7 +59,7 @@ public class AdminForm extends javax.swing.JFrame {
         jPanel2.setBackground(new java.awt.Color(255, 255, 255));
         jPanel2.setForeground(new java.awt.Color(255, 255, 255));
 
-        jLabel1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/front logo.png"))); // NOI18N
+        jLabel1.setIcon(Icons.load("/loginandsignup/front logo.png"));
 
         jLabel9.setFont(new java.awt.Font("Rockwell Extra Bold", 1, 48)); // NOI18N
         jLabel9.setForeground(new java.awt.Color(0, 51, 51));
@@ -61,7 +69,7 @@ public class AdminForm extends javax.swing.JFrame {
         jLabel10.setForeground(new java.awt.Color(0, 51, 51));
         jLabel10.setText("LOCAL SERVICES FINDER");
 
-        jButton5.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/exit button.jpg"))); // NOI18N
+        jButton5.setIcon(Icons.load("/loginandsignup/exit button.jpg"));
         jButton5.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton5ActionPerformed(evt);
@@ -129,7 +137,7 @@ public class AdminForm extends javax.swing.JFrame {
 
         jLabel6.setFont(new java.awt.Font("Segoe UI Black", 1, 18)); // NOI18N
         jLabel6.setForeground(new java.awt.Color(0, 51, 51));
-        jLabel6.setText("Service Type:");
+        jLabel6.setText("Service Types:");
 
         address1.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
@@ -163,12 +171,7 @@ public class AdminForm extends javax.swing.JFrame {
         jLabel7.setForeground(new java.awt.Color(0, 51, 51));
         jLabel7.setText("Experience:");
 
-        box.setModel(new javax.swing.DefaultComboBoxModel<>(new String[] { "Electrician Services", "Carpentry", "plumbing Services", "Home Cleaning", "Pest Control", "Appliance Repair", "Painting Services", "Car Repair", "Beauty and salon Services", "Home Tutor", "Tailoring and Alteration", "Heir Styling", "Yoga and Meditation", "Makeup Artist" }));
-        box.addActionListener(new java.awt.event.ActionListener() {
-            public void actionPerformed(java.awt.event.ActionEvent evt) {
-                boxActionPerformed(evt);
-            }
-        });
+        boxScroll.setViewportView(box);
 
         javax.swing.GroupLayout jPanel4Layout = new javax.swing.GroupLayout(jPanel4);
         jPanel4.setLayout(jPanel4Layout);
@@ -189,7 +192,7 @@ public class AdminForm extends javax.swing.JFrame {
                             .addComponent(address1, javax.swing.GroupLayout.PREFERRED_SIZE, 449, javax.swing.GroupLayout.PREFERRED_SIZE)
                             .addComponent(contactno1, javax.swing.GroupLayout.PREFERRED_SIZE, 449, javax.swing.GroupLayout.PREFERRED_SIZE)
                             .addGroup(jPanel4Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.TRAILING, false)
-                                .addComponent(box, javax.swing.GroupLayout.Alignment.LEADING, 0, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                                .addComponent(boxScroll, javax.swing.GroupLayout.Alignment.LEADING)
                                 .addComponent(experience, javax.swing.GroupLayout.Alignment.LEADING, javax.swing.GroupLayout.DEFAULT_SIZE, 449, Short.MAX_VALUE)
                                 .addComponent(jDateChooser2, javax.swing.GroupLayout.Alignment.LEADING, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))))
                     .addGroup(jPanel4Layout.createSequentialGroup()
@@ -223,10 +226,10 @@ public class AdminForm extends javax.swing.JFrame {
                     .addComponent(experience, javax.swing.GroupLayout.PREFERRED_SIZE, 36, javax.swing.GroupLayout.PREFERRED_SIZE)
                     .addComponent(jLabel7, javax.swing.GroupLayout.PREFERRED_SIZE, 26, javax.swing.GroupLayout.PREFERRED_SIZE))
                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, 30, Short.MAX_VALUE)
-                .addGroup(jPanel4Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
-                    .addComponent(box, javax.swing.GroupLayout.PREFERRED_SIZE, 33, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addGroup(jPanel4Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addComponent(boxScroll, javax.swing.GroupLayout.PREFERRED_SIZE, 99, javax.swing.GroupLayout.PREFERRED_SIZE)
                     .addComponent(jLabel6, javax.swing.GroupLayout.PREFERRED_SIZE, 26, javax.swing.GroupLayout.PREFERRED_SIZE))
-                .addGap(42, 42, 42)
+                .addGap(20, 20, 20)
                 .addComponent(jButton1)
                 .addGap(22, 22, 22))
         );
@@ -302,102 +305,35 @@ public class AdminForm extends javax.swing.JFrame {
     String adminContactNo = contactno1.getText();
     Date adminDob = jDateChooser2.getDate();     
     String adminExperience = experience.getText();
-    String adminService = box.getSelectedItem().toString();
-
-    // Check if fields are not empty
-    if (adminAddress.isEmpty() || adminContactNo.isEmpty() || adminDob == null || adminService.isEmpty() || adminExperience.isEmpty()) {
-        JOptionPane.showMessageDialog(this, "Please fill all fields");
-        return;
-    }
-    
-    // Validate the contact number (must be exactly 10 digits)
-    if (!adminContactNo.matches("\\d{10}")) {
-        JOptionPane.showMessageDialog(this, "Contact number must be exactly 10 digits");
-        return;
+    List<String> adminServices = new ArrayList<>();
+    for (CategoryRegistry.Category category : box.getSelectedValuesList()) {
+        adminServices.add(category.serviceType());
     }
-    
-     if (!adminAddress.matches("[a-zA-Z ]+")) {  // Only allows letters (both upper and lowercase) and spaces
-        JOptionPane.showMessageDialog(this, "Invalid input! The field must only contain letters and spaces.");
-        return;  // Stop further execution
-    }
-
-    // Format the Date as String (e.g., "yyyy-MM-dd")
-    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-    String dobString = dateFormat.format(adminDob);
-
-    // Initialize PreparedStatement for later use
-    PreparedStatement pst = null;
-    PreparedStatement emailPst = null;
-    ResultSet emailRs = null;
 
+    boolean saved;
     try {
-        // Establish connection to the database
-        Connection conn = DriverManager.getConnection("jdbc:mysql://localhost:3306/ServiceApp", "root", "student");
-
-        // Retrieve the latest email from ServiceProvidersSignUp table
-        String emailQuery = "SELECT email FROM ServiceProvidersSignUp WHERE provider_id=(SELECT MAX(provider_id) FROM ServiceProvidersSignUp)"; // Modify this query if needed
-        emailPst = conn.prepareStatement(emailQuery);
-        
-        // Execute the email query
-        emailRs = emailPst.executeQuery();
-
-        if (emailRs.next()) {  // If email is found
-            String email = emailRs.getString("email");
-
-            // Prepare insert query for ServiceProviders table
-            String insertQuery = "INSERT INTO ServiceProviders (email, address, contact_number, DOB, service_type, Experience) VALUES (?, ?, ?, ?, ?, ?)";
-            pst = conn.prepareStatement(insertQuery);
-
-            // Insert the data into the ServiceProviders table
-            pst.setString(1, email);            // Set email
-            pst.setString(2, adminAddress);     // Set address
-            pst.setString(3, adminContactNo);   // Set contact number
-            pst.setString(4, dobString);        // Set date of birth
-            pst.setString(5, adminService);     // Set service type
-            pst.setString(6, adminExperience);  // Set experience
-
-            // Execute the insert query
-            int rowsAffected = pst.executeUpdate();
-
-            // Check if the insertion was successful
-            if (rowsAffected > 0) {
-                JOptionPane.showMessageDialog(this, "Details entered successfully!");
-            } else {
-                JOptionPane.showMessageDialog(this, "Insert failed. Please try again.");
-            }
-        } else {
-            JOptionPane.showMessageDialog(this, "No email found in ServiceProvidersSignUp table.");
-        }
-
-        // Close the database resources
-        if (emailRs != null) {
-            emailRs.close();
-        }
-        if (emailPst != null) {
-            emailPst.close();
-        }
-        if (pst != null) {
-            pst.close();
-        }
-        conn.close();
-        this.dispose(); // Close login frame
-        UserInterface UserInterfaceFrame = new UserInterface();
-        UserInterfaceFrame.setVisible(true);
-        UserInterfaceFrame.pack();
-        UserInterfaceFrame.setLocationRelativeTo(null); 
+        saved = profiles.saveProviderProfile(adminAddress, adminContactNo, adminDob, adminExperience, adminServices);
+    } catch (ValidationException e) {
+        JOptionPane.showMessageDialog(this, e.getMessage());
+        return;
     } catch (SQLException e) {
         // Handle any database errors
         e.printStackTrace();
         JOptionPane.showMessageDialog(this, "Sign-up error: " + e.getMessage());
+        return;
+    }
+
+    // Check if the insertion was successful
+    if (saved) {
+        JOptionPane.showMessageDialog(this, "Details entered successfully!");
+    } else {
+        JOptionPane.showMessageDialog(this, "Insert failed. Please try again.");
     }
+    Navigator.show(UserInterface.class, UserInterface::new);
+    Navigator.close(this);
       // TODO add your handling code here:
     }//GEN-LAST:event_jButton1ActionPerformed
 
-    private void boxActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_boxActionPerformed
-
-        // TODO add your handling code here:
-    }//GEN-LAST:event_boxActionPerformed
-
     private void jButton5ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton5ActionPerformed
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton5ActionPerformed
@@ -414,7 +350,8 @@ public class AdminForm extends javax.swing.JFrame {
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.JTextField address1;
-    private javax.swing.JComboBox<String> box;
+    private javax.swing.JList<CategoryRegistry.Category> box;
+    private javax.swing.JScrollPane boxScroll;
     private javax.swing.JTextField contactno1;
     private javax.swing.JTextField experience;
     private javax.swing.JButton jButton1;
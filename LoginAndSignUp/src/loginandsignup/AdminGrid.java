@@ -0,0 +1,328 @@
+package loginandsignup;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.JButton;
+import javax.swing.JCheckBoxMenuItem;
+import javax.swing.JComboBox;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JPopupMenu;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Admin browser over the ServiceApp tables listed in {@link GridTable}.
+ * Only the chosen columns are selected, filters are bound parameters, and
+ * rows are read a {@link KeysetPager} page at a time as they scroll into
+ * view, so a million-row table costs a count and the pages looked at.
+ * Replaces the old {@code AdminForm1}, which read every column of every
+ * electrician row up front.
+ */
+public class AdminGrid extends JFrame {
+
+    private static final Logger LOG = Logger.getLogger(AdminGrid.class.getName());
+
+    /** Pages kept in memory; older ones are read again if scrolled back to. */
+    private static final int MAX_PAGES = 64;
+
+    static final LongAdder PAGES_READ = Metrics.counter("lsf_admin_grid_pages_total", "Admin grid pages read");
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "lsf-admin-grid");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** Used only on the loader thread. */
+    private Connection conn;
+
+    private final PagedModel model = new PagedModel();
+    private final JComboBox<GridTable> tables = new JComboBox<>(GridTable.ALL.toArray(new GridTable[0]));
+    private final JButton columnsButton = new JButton("Columns...");
+    private final JComboBox<String> filterColumn = new JComboBox<>();
+    private final JTextField filterValue = new JTextField(16);
+    private final JLabel status = new JLabel();
+    private final List<String> visible = new ArrayList<>();
+    private final Map<String, String> filters = new LinkedHashMap<>();
+    /** Generation whose failure was last shown in a dialog; later ones only go to the status line. EDT only. */
+    private int reported = -1;
+
+    public AdminGrid() {
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
+        setTitle("LSF Admin");
+        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        JButton filter = new JButton("Filter");
+        JButton clear = new JButton("Clear");
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(new JLabel("Table:"));
+        controls.add(tables);
+        controls.add(columnsButton);
+        controls.add(new JLabel("Where"));
+        controls.add(filterColumn);
+        controls.add(new JLabel("starts with"));
+        controls.add(filterValue);
+        controls.add(filter);
+        controls.add(clear);
+        controls.add(status);
+
+        JTable table = new JTable(model);
+        getContentPane().add(controls, BorderLayout.NORTH);
+        getContentPane().add(new JScrollPane(table), BorderLayout.CENTER);
+        setSize(1100, 600);
+        opening.componentsReady();
+
+        tables.addActionListener(e -> open((GridTable) tables.getSelectedItem()));
+        columnsButton.addActionListener(e -> chooseColumns());
+        filter.addActionListener(e -> addFilter());
+        filterValue.addActionListener(e -> addFilter());
+        clear.addActionListener(e -> {
+            filters.clear();
+            filterValue.setText("");
+            requery();
+        });
+        open((GridTable) tables.getSelectedItem());
+        opening.finish();
+    }
+
+    @Override
+    public void dispose() {
+        loader.execute(() -> {
+            try {
+                if (conn != null) {
+                    conn.close();
+                }
+            } catch (SQLException e) {
+                LOG.log(Level.FINE, "Closing admin grid connection", e);
+            }
+        });
+        loader.shutdown();
+        super.dispose();
+    }
+
+    /** Shows {@code table} with its default columns and no filters. */
+    private void open(GridTable table) {
+        visible.clear();
+        visible.addAll(table.shown());
+        filters.clear();
+        filterColumn.removeAllItems();
+        filterColumn.addItem(table.key());
+        for (String column : table.columns()) {
+            filterColumn.addItem(column);
+        }
+        requery();
+    }
+
+    private void chooseColumns() {
+        GridTable table = (GridTable) tables.getSelectedItem();
+        JPopupMenu menu = new JPopupMenu();
+        for (String column : table.columns()) {
+            JCheckBoxMenuItem item = new JCheckBoxMenuItem(column, visible.contains(column));
+            item.addActionListener(e -> {
+                // keep the table's column order whatever order they were ticked in
+                visible.clear();
+                for (java.awt.Component c : menu.getComponents()) {
+                    JCheckBoxMenuItem each = (JCheckBoxMenuItem) c;
+                    if (each.isSelected()) {
+                        visible.add(each.getText());
+                    }
+                }
+                requery();
+            });
+            menu.add(item);
+        }
+        menu.show(columnsButton, 0, columnsButton.getHeight());
+    }
+
+    private void addFilter() {
+        String column = (String) filterColumn.getSelectedItem();
+        String value = filterValue.getText().strip();
+        if (value.isEmpty()) {
+            filters.remove(column);
+        } else {
+            filters.put(column, value);
+        }
+        requery();
+    }
+
+    private void requery() {
+        GridTable table = (GridTable) tables.getSelectedItem();
+        KeysetPager pager = new KeysetPager(table, visible, filters);
+        status.setText("Counting...");
+        model.reset(pager);
+        int generation = model.generation;
+        loader.execute(() -> {
+            try {
+                int rows = pager.count(connection());
+                SwingUtilities.invokeLater(() -> {
+                    if (generation == model.generation) {
+                        model.setRowCount(rows);
+                        status.setText(rows + " rows" + (filters.isEmpty() ? "" : " where " + filters));
+                    }
+                });
+            } catch (SQLException e) {
+                SwingUtilities.invokeLater(() -> {
+                    if (generation == model.generation) {
+                        status.setText("Count failed");
+                    }
+                });
+                failed(e, generation);
+            }
+        });
+    }
+
+    /** The loader thread's connection, reopened if the last one failed. */
+    private Connection connection() throws SQLException {
+        if (conn == null || conn.isClosed()) {
+            conn = Database.getConnection();
+        }
+        return conn;
+    }
+
+    /**
+     * Drops the connection and reports {@code e}. Only the first failure of
+     * a query pops a dialog, so pages retried on repaint do not stack them.
+     */
+    private void failed(SQLException e, int generation) {
+        try {
+            if (conn != null) {
+                conn.close();
+            }
+        } catch (SQLException ignored) {
+            // reopened by the next read
+        }
+        LOG.log(Level.WARNING, "Admin grid query failed", e);
+        SwingUtilities.invokeLater(() -> {
+            if (reported == generation) {
+                status.setText("Error fetching data: " + e.getMessage());
+                return;
+            }
+            reported = generation;
+            JOptionPane.showMessageDialog(this, "Error fetching data: " + e.getMessage());
+        });
+    }
+
+    /**
+     * Rows known only by count until painted. A cell on a page not yet read
+     * shows empty and queues the page; the loader skips queued pages that
+     * have scrolled well out of view by the time it gets to them.
+     */
+    private final class PagedModel extends AbstractTableModel {
+
+        private KeysetPager pager;
+        private List<String> columns = List.of();
+        private int rows;
+        private volatile int generation;
+        private volatile int latest;
+        private final Map<Integer, List<Object[]>> pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<Object[]>> eldest) {
+                return size() > MAX_PAGES;
+            }
+        };
+        private final Set<Integer> pending = new HashSet<>();
+
+        void reset(KeysetPager pager) {
+            this.pager = pager;
+            columns = pager.columns();
+            rows = 0;
+            generation++;
+            pages.clear();
+            pending.clear();
+            fireTableStructureChanged();
+        }
+
+        void setRowCount(int rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columns.size();
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columns.get(column);
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            int index = row / KeysetPager.PAGE_SIZE;
+            List<Object[]> page = pages.get(index);
+            if (page == null) {
+                request(index);
+                return null;
+            }
+            int offset = row % KeysetPager.PAGE_SIZE;
+            return offset < page.size() ? page.get(offset)[column] : null;
+        }
+
+        private void request(int index) {
+            latest = index;
+            if (!pending.add(index)) {
+                return;
+            }
+            KeysetPager source = pager;
+            int expected = generation;
+            loader.execute(() -> {
+                if (expected != generation || Math.abs(index - latest) > 2) {
+                    SwingUtilities.invokeLater(() -> pending.remove(index));
+                    return;
+                }
+                try {
+                    List<Object[]> page = source.page(connection(), index);
+                    PAGES_READ.increment();
+                    SwingUtilities.invokeLater(() -> {
+                        if (expected != generation) {
+                            return;
+                        }
+                        pending.remove(index);
+                        pages.put(index, page);
+                        int first = index * KeysetPager.PAGE_SIZE;
+                        int last = Math.min(rows, first + KeysetPager.PAGE_SIZE) - 1;
+                        if (last >= first) {
+                            fireTableRowsUpdated(first, last);
+                        }
+                    });
+                } catch (SQLException e) {
+                    // read again the next time a row of it is painted
+                    SwingUtilities.invokeLater(() -> {
+                        if (expected == generation) {
+                            pending.remove(index);
+                        }
+                    });
+                    failed(e, expected);
+                }
+            });
+        }
+    }
+
+    public static void main(String args[]) {
+        java.awt.EventQueue.invokeLater(() -> new AdminGrid().setVisible(true));
+    }
+}
@@ -0,0 +1,66 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Login against the user and provider sign-up tables, or through the
+ * {@link CatalogServer} when {@link #configured()} finds {@code -Dlsf.catalog.url}.
+ */
+public final class AuthService {
+
+    /** Null for direct JDBC. */
+    private final HttpCatalogClient server;
+
+    public AuthService() {
+        this(null);
+    }
+
+    private AuthService(HttpCatalogClient server) {
+        this.server = server;
+    }
+
+    /** Through the catalog server when {@code -Dlsf.catalog.url} is set, direct JDBC otherwise. */
+    public static AuthService configured() {
+        String url = System.getProperty("lsf.catalog.url");
+        return url == null || url.isBlank() ? new AuthService() : new AuthService(HttpCatalogClient.forUrl(url.trim()));
+    }
+
+    /**
+     * Returns true if the email/password pair belongs to a user or a
+     * provider. Users are checked first; the provider table is only queried
+     * when that misses.
+     */
+    public boolean login(String email, String password) throws ValidationException, SQLException {
+        if (email == null || email.isEmpty() || password == null || password.isEmpty()) {
+            throw new ValidationException("Please fill in all fields.");
+        }
+        boolean found;
+        if (server != null) {
+            found = server.login(email, password);
+        } else {
+            try (Connection conn = Database.getConnection()) {
+                found = matches(conn, Queries.LOGIN_USER, email, password)
+                        || matches(conn, Queries.LOGIN_PROVIDER, email, password);
+            }
+        }
+        if (found) {
+            Metrics.LOGIN_SUCCESS.increment();
+        } else {
+            Metrics.LOGIN_FAILURE.increment();
+        }
+        return found;
+    }
+
+    private static boolean matches(Connection conn, String sql, String email, String password) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(sql)) {
+            pst.setString(1, email);
+            pst.setString(2, password);
+            try (ResultSet rs = pst.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package loginandsignup;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.image.BufferedImage;
+import javax.swing.JComponent;
+
+/**
+ * Full-window background for the login and sign-up frames. It fills its
+ * parent, decodes the image subsampled to roughly the window size through
+ * {@link Icons#loadSubsampled}, and keeps one pre-scaled image compatible with
+ * the screen, so a repaint is a plain blit. The image is scaled again only
+ * when the window size changes, or after the component was hidden.
+ */
+public class BackgroundImage extends JComponent {
+
+    private final String path;
+    private final ComponentListener fill = new ComponentAdapter() {
+        @Override
+        public void componentResized(ComponentEvent e) {
+            fillParent();
+        }
+    };
+    private Image scaled;
+
+    public BackgroundImage(String path) {
+        this.path = path;
+        setOpaque(true);
+        addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0 && !isShowing()) {
+                scaled = null; // hidden screens keep only the shared decoded copy
+            }
+        });
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        getParent().addComponentListener(fill);
+        fillParent();
+    }
+
+    @Override
+    public void removeNotify() {
+        getParent().removeComponentListener(fill);
+        scaled = null;
+        super.removeNotify();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (scaled == null || scaled.getWidth(null) != width || scaled.getHeight(null) != height) {
+            scaled = render(width, height);
+        }
+        g.drawImage(scaled, 0, 0, null);
+    }
+
+    /** The pre-scaled image, or null until the next paint. */
+    Image rendered() {
+        return scaled;
+    }
+
+    private void fillParent() {
+        Container parent = getParent();
+        if (parent != null) {
+            setBounds(0, 0, parent.getWidth(), parent.getHeight());
+        }
+    }
+
+    /** Scales the image to cover {@code width} x {@code height}, cropping the overflow evenly. */
+    BufferedImage render(int width, int height) {
+        Image source = Icons.loadSubsampled(path, Icons.subsamplingFor(path, width, height)).getImage();
+        int sourceWidth = source.getWidth(null);
+        int sourceHeight = source.getHeight(null);
+        BufferedImage target = compatibleImage(this, width, height);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(getBackground() != null ? getBackground() : Color.BLACK);
+            g.fillRect(0, 0, width, height);
+            if (sourceWidth > 0 && sourceHeight > 0) {
+                double scale = Math.max((double) width / sourceWidth, (double) height / sourceHeight);
+                int drawnWidth = (int) Math.ceil(sourceWidth * scale);
+                int drawnHeight = (int) Math.ceil(sourceHeight * scale);
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.drawImage(source, (width - drawnWidth) / 2, (height - drawnHeight) / 2, drawnWidth, drawnHeight, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage compatibleImage(Component component, int width, int height) {
+        GraphicsConfiguration gc = component.getGraphicsConfiguration();
+        return gc != null
+                ? gc.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+}
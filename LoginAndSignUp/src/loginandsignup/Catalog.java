@@ -0,0 +1,63 @@
+package loginandsignup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Read side of the provider catalog. {@link #configured()} picks the
+ * {@link CatalogServer} client when {@code -Dlsf.catalog.url} is set and
+ * direct JDBC otherwise, behind a local {@link CatalogReplica} unless
+ * {@code -Dlsf.catalog.replica=false}.
+ */
+public interface Catalog {
+
+    List<Provider> providersByService(String serviceType) throws SQLException;
+
+    /** Providers offering at least one of {@code serviceTypes}, each once, by id. */
+    default List<Provider> providersInAny(Collection<String> serviceTypes) throws SQLException {
+        Map<Long, Provider> rows = new TreeMap<>();
+        for (String serviceType : serviceTypes) {
+            for (Provider provider : providersByService(serviceType)) {
+                rows.put(provider.id(), provider);
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    /** Providers offering every one of {@code serviceTypes}, by id. */
+    default List<Provider> providersInAll(Collection<String> serviceTypes) throws SQLException {
+        Map<Long, Provider> rows = new TreeMap<>();
+        if (serviceTypes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        for (Provider provider : providersByService(serviceTypes.iterator().next())) {
+            if (provider.serviceTypes().containsAll(serviceTypes)) {
+                rows.put(provider.id(), provider);
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    /** Number of listed providers per service type. */
+    Map<String, Integer> categories() throws SQLException;
+
+    /**
+     * Rows whose version is above {@code version}, tombstones included. A
+     * negative version asks for a snapshot of every live row instead.
+     */
+    CatalogDelta changesSince(long version) throws SQLException;
+
+    static Catalog configured() {
+        String url = System.getProperty("lsf.catalog.url");
+        boolean remote = url != null && !url.isBlank();
+        if (!Boolean.parseBoolean(System.getProperty("lsf.catalog.replica", "true"))) {
+            return remote ? HttpCatalogClient.forUrl(url.trim()) : new CatalogService();
+        }
+        return remote ? CatalogReplica.shared(url.trim(), () -> HttpCatalogClient.forUrl(url.trim()))
+                : CatalogReplica.shared("jdbc", CatalogService::new);
+    }
+}
@@ -0,0 +1,128 @@
+package loginandsignup;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Serialized catalog responses kept by {@link CatalogServer}. Each entry
+ * holds the JSON body and its ETag, so a fresh hit costs neither a query nor
+ * serialization. Entries expire after {@code -Dlsf.catalog.ttl.ms}
+ * (default 30 s) or when invalidated. A load that overlaps an invalidation
+ * of its key is returned but not kept, so it cannot cache rows read before
+ * the change. Keys are service types; {@link CatalogServer} only asks for
+ * ones {@link CategoryRegistry} knows, which bounds the map.
+ */
+final class CatalogCache {
+
+    static final long TTL_MILLIS = Long.getLong("lsf.catalog.ttl.ms", 30_000);
+
+    static final LongAdder HITS = Metrics.counter("lsf_catalog_cache_total{result=\"hit\"}", "Catalog cache lookups");
+    static final LongAdder MISSES = Metrics.counter("lsf_catalog_cache_total{result=\"miss\"}", "Catalog cache lookups");
+
+    private static final String CATEGORIES = "";
+
+    /** A cached response body. */
+    record Entry(byte[] body, String etag, long loadedAt) {
+
+        boolean fresh(long now) {
+            return now - loadedAt < TTL_MILLIS;
+        }
+    }
+
+    private final Catalog source;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** Invalidations per key, and of everything; a load stores only if neither moved while it ran. */
+    private final Map<String, Long> invalidations = new ConcurrentHashMap<>();
+    private final AtomicLong cleared = new AtomicLong();
+
+    CatalogCache(Catalog source) {
+        this.source = source;
+        Metrics.gauge("lsf_catalog_cache_entries", "Cached catalog responses", entries::size);
+    }
+
+    Entry providers(String serviceType) throws SQLException {
+        Entry entry = lookup(serviceType);
+        if (entry != null) {
+            return entry;
+        }
+        long version = version(serviceType);
+        List<Object> rows = new ArrayList<>();
+        for (Provider provider : source.providersByService(serviceType)) {
+            rows.add(provider.toMap());
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("service_type", serviceType);
+        body.put("providers", rows);
+        return store(serviceType, body, version);
+    }
+
+    Entry categories() throws SQLException {
+        Entry entry = lookup(CATEGORIES);
+        if (entry != null) {
+            return entry;
+        }
+        long version = version(CATEGORIES);
+        List<Object> rows = new ArrayList<>();
+        for (Map.Entry<String, Integer> e : source.categories().entrySet()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("service_type", e.getKey());
+            row.put("providers", e.getValue());
+            rows.add(row);
+        }
+        return store(CATEGORIES, rows, version);
+    }
+
+    /** Drops the listing for one service type and the category counts. */
+    void invalidate(String serviceType) {
+        invalidations.merge(serviceType, 1L, Long::sum);
+        invalidations.merge(CATEGORIES, 1L, Long::sum);
+        entries.remove(serviceType);
+        entries.remove(CATEGORIES);
+    }
+
+    void invalidateAll() {
+        cleared.incrementAndGet();
+        entries.clear();
+    }
+
+    /** Changes whenever {@code key} is invalidated; both counts only grow. */
+    private long version(String key) {
+        return cleared.get() + invalidations.getOrDefault(key, 0L);
+    }
+
+    private Entry lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.fresh(System.currentTimeMillis())) {
+            HITS.increment();
+            return entry;
+        }
+        MISSES.increment();
+        return null;
+    }
+
+    /** Caches the body unless {@code key} was invalidated since {@code version} was read. */
+    private Entry store(String key, Object body, long version) {
+        byte[] bytes = Json.write(body).getBytes(StandardCharsets.UTF_8);
+        Entry entry = new Entry(bytes, etag(bytes), System.currentTimeMillis());
+        entries.put(key, entry);
+        // checked after the put: an invalidation in between has either removed it or moved the version
+        if (version(key) != version) {
+            entries.remove(key, entry);
+        }
+        return entry;
+    }
+
+    static String etag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length) + "\"";
+    }
+}
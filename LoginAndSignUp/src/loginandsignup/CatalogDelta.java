@@ -0,0 +1,45 @@
+package loginandsignup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provider rows changed since a catalog version, oldest first. A tombstone
+ * carries the row as it was when deleted. {@code complete} is false when
+ * the page limit cut the delta short and the caller should ask again.
+ */
+public record CatalogDelta(List<Entry> entries, boolean complete) {
+
+    /** One changed row at its new version. */
+    public record Entry(long version, boolean deleted, Provider provider) {
+    }
+
+    public Map<String, Object> toMap() {
+        List<Object> rows = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("version", entry.version());
+            row.put("deleted", entry.deleted());
+            row.put("provider", entry.provider().toMap());
+            rows.add(row);
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("changes", rows);
+        map.put("complete", complete);
+        return map;
+    }
+
+    public static CatalogDelta fromMap(Map<?, ?> map) {
+        List<Entry> entries = new ArrayList<>();
+        if (map.get("changes") instanceof List<?> rows) {
+            for (Object item : rows) {
+                Map<?, ?> row = (Map<?, ?>) item;
+                entries.add(new Entry(((Number) row.get("version")).longValue(), Boolean.TRUE.equals(row.get("deleted")),
+                        Provider.fromMap((Map<?, ?>) row.get("provider"))));
+            }
+        }
+        return new CatalogDelta(entries, !Boolean.FALSE.equals(map.get("complete")));
+    }
+}
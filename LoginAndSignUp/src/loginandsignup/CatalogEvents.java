@@ -0,0 +1,62 @@
+package loginandsignup;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * In-process bus for provider changes. Services publish after their write
+ * commits; listeners run on the publishing thread, so Swing subscribers hop
+ * to the EDT themselves. A cross-process feed plugs in from either side: it
+ * subscribes to forward local changes and calls {@link #publish} for changes
+ * it receives.
+ */
+public final class CatalogEvents {
+
+    private static final Logger LOG = Logger.getLogger(CatalogEvents.class.getName());
+
+    public static final LongAdder PUBLISHED = Metrics.counter("lsf_catalog_events_total", "Provider changes published");
+
+    public enum Kind {
+        INSERTED, UPDATED, DELETED
+    }
+
+    /** A provider row as it is after the change (as it was, for a delete). */
+    public record Change(Kind kind, Provider provider) {
+
+        public String serviceType() {
+            return provider.serviceType();
+        }
+    }
+
+    /** Handle returned by {@link #subscribe}; closing it removes the listener. */
+    public interface Subscription extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final List<Consumer<Change>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private CatalogEvents() {
+    }
+
+    public static Subscription subscribe(Consumer<Change> listener) {
+        LISTENERS.add(listener);
+        return () -> LISTENERS.remove(listener);
+    }
+
+    public static void publish(Change change) {
+        PUBLISHED.increment();
+        for (Consumer<Change> listener : LISTENERS) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "Catalog listener failed on " + change, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package loginandsignup;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Local copy of the provider catalog kept current by version deltas. The
+ * first read loads a snapshot; every read after that asks the source only
+ * for rows whose version is above the watermark, so an unchanged catalog
+ * costs one indexed query returning nothing. Versions missing below the
+ * watermark are re-read for a grace period in case their write commits
+ * late (see {@link IdWatermark}). Tombstones remove rows.
+ * <p>
+ * Each category keeps an {@link IdBitmap} of its provider ids, so
+ * multi-category reads combine bitmaps first and only then look up the
+ * rows that matched.
+ */
+public final class CatalogReplica implements Catalog {
+
+    private static final Map<String, CatalogReplica> SHARED = new ConcurrentHashMap<>();
+
+    public static final LongAdder ROWS_SYNCED = Metrics.counter("lsf_catalog_replica_rows_total", "Rows applied to the local catalog replica");
+
+    private final Catalog source;
+    private final Map<Long, Provider> byId = new HashMap<>();
+    private final Map<String, IdBitmap> byCategory = new HashMap<>();
+    private IdWatermark watermark;
+    private volatile int size;
+
+    public CatalogReplica(Catalog source) {
+        this.source = source;
+    }
+
+    /** One replica per source, shared by every window. */
+    static CatalogReplica shared(String key, Supplier<Catalog> source) {
+        return SHARED.computeIfAbsent(key, k -> {
+            CatalogReplica replica = new CatalogReplica(source.get());
+            Metrics.gauge("lsf_catalog_replica_providers{source=\"" + Metrics.escape(k) + "\"}",
+                    "Providers held in the local catalog replica", () -> replica.size);
+            return replica;
+        });
+    }
+
+    @Override
+    public synchronized List<Provider> providersByService(String serviceType) throws SQLException {
+        sync();
+        return rows(byCategory.get(serviceType));
+    }
+
+    @Override
+    public synchronized List<Provider> providersInAny(Collection<String> serviceTypes) throws SQLException {
+        sync();
+        IdBitmap ids = new IdBitmap();
+        for (String serviceType : serviceTypes) {
+            IdBitmap category = byCategory.get(serviceType);
+            if (category != null) {
+                ids = ids.or(category);
+            }
+        }
+        return rows(ids);
+    }
+
+    @Override
+    public synchronized List<Provider> providersInAll(Collection<String> serviceTypes) throws SQLException {
+        sync();
+        IdBitmap ids = null;
+        for (String serviceType : serviceTypes) {
+            IdBitmap category = byCategory.get(serviceType);
+            if (category == null) {
+                return new ArrayList<>();
+            }
+            ids = ids == null ? category : ids.and(category);
+        }
+        return rows(ids);
+    }
+
+    @Override
+    public synchronized Map<String, Integer> categories() throws SQLException {
+        sync();
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Map.Entry<String, IdBitmap> e : byCategory.entrySet()) {
+            if (!e.getValue().isEmpty()) {
+                counts.put(e.getKey(), e.getValue().cardinality());
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public CatalogDelta changesSince(long version) throws SQLException {
+        return source.changesSince(version);
+    }
+
+    /** Brings the copy up to date with the source. */
+    public synchronized void sync() throws SQLException {
+        if (watermark == null) {
+            long high = 0;
+            TreeSet<Long> recent = new TreeSet<>(); // the highest versions seen; only those can be gaps
+            for (CatalogDelta.Entry entry : source.changesSince(-1).entries()) {
+                put(entry.provider());
+                high = Math.max(high, entry.version());
+                recent.add(entry.version());
+                if (recent.size() > IdWatermark.MAX_GAPS) {
+                    recent.pollFirst();
+                }
+            }
+            watermark = new IdWatermark(high, recent);
+        }
+        CatalogDelta delta;
+        long before;
+        do {
+            before = watermark.high();
+            delta = source.changesSince(watermark.since());
+            for (CatalogDelta.Entry entry : delta.entries()) {
+                if (!watermark.accept(entry.version())) {
+                    continue;
+                }
+                if (entry.deleted()) {
+                    remove(entry.provider().id());
+                } else {
+                    put(entry.provider());
+                }
+            }
+        } while (!delta.complete() && watermark.high() > before);
+        watermark.expire();
+    }
+
+    private void put(Provider provider) {
+        remove(provider.id());
+        byId.put(provider.id(), provider);
+        for (String serviceType : provider.serviceTypes()) {
+            byCategory.computeIfAbsent(serviceType, k -> new IdBitmap()).add(Math.toIntExact(provider.id()));
+        }
+        size = byId.size();
+        ROWS_SYNCED.increment();
+    }
+
+    private void remove(long id) {
+        Provider old = byId.remove(id);
+        if (old != null) {
+            for (String serviceType : old.serviceTypes()) {
+                IdBitmap ids = byCategory.get(serviceType);
+                if (ids != null) {
+                    ids.remove(Math.toIntExact(id));
+                }
+            }
+            size = byId.size();
+        }
+    }
+
+    /** The rows for {@code ids}, ascending by id. */
+    private List<Provider> rows(IdBitmap ids) {
+        List<Provider> rows = new ArrayList<>();
+        if (ids != null) {
+            ids.forEach(id -> rows.add(byId.get((long) id)));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,310 @@
+package loginandsignup;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Embedded HTTP/JSON front for the services, so desktops can share one set
+ * of database connections and one catalog cache:
+ * <pre>
+ *   GET  /categories                    provider count per service type
+ *   GET  /providers?service_type=...    providers in one category
+ *   GET  /changes?since=version         rows changed after a version (see {@link CatalogDelta})
+ *   POST /login    {"email", "password"}
+ *   POST /signup   {"kind": "user"|"provider", "name", "email", "password", "confirm_password"}
+ * </pre>
+ * Catalog reads come from {@link CatalogCache} and carry an ETag; a request
+ * whose {@code If-None-Match} still matches gets 304 with no body. Run it
+ * standalone with {@code -Dlsf.catalog.server.port=8081 loginandsignup.CatalogServer},
+ * or inside the app by setting the same property.
+ * <p>
+ * Credentials travel as plain HTTP, so the server binds to loopback unless
+ * {@code -Dlsf.catalog.server.host} names another address; only do that
+ * behind a TLS-terminating proxy. Each client address gets
+ * {@code -Dlsf.catalog.server.login.per.minute} (default 10) login attempts a
+ * minute before {@code /login} answers 429. Failures are logged here and the
+ * client only gets a generic message.
+ */
+public final class CatalogServer {
+
+    private static final Logger LOG = Logger.getLogger(CatalogServer.class.getName());
+
+    private static final int LOGIN_LIMIT = Integer.getInteger("lsf.catalog.server.login.per.minute", 10);
+    private static final LongAdder LOGINS_THROTTLED = Metrics.counter("lsf_catalog_logins_throttled_total",
+            "Logins refused for too many attempts from one address");
+
+    private record Attempts(long minute, int count) {
+    }
+
+    /** Login attempts per client address in the current minute. */
+    private static final Map<InetAddress, Attempts> ATTEMPTS = new ConcurrentHashMap<>();
+
+    private static HttpServer server;
+    private static CatalogCache cache;
+    private static CatalogEvents.Subscription changes;
+
+    private static final AuthService auth = new AuthService();
+    private static final RegistrationService registration = new RegistrationService();
+
+    private CatalogServer() {
+    }
+
+    public static void main(String[] args) {
+        if (System.getProperty("lsf.catalog.server.port") == null) {
+            System.setProperty("lsf.catalog.server.port", args.length > 0 ? args[0] : "8081");
+        }
+        MetricsServer.startIfConfigured();
+        ChangeLogPoller.start();
+        startIfConfigured();
+    }
+
+    public static synchronized void startIfConfigured() {
+        String port = System.getProperty("lsf.catalog.server.port");
+        if (port == null || port.isBlank() || server != null) {
+            return;
+        }
+        String host = System.getProperty("lsf.catalog.server.host");
+        try {
+            int number = Integer.parseInt(port.trim());
+            start(new CatalogService(), host == null || host.isBlank()
+                    ? new InetSocketAddress(InetAddress.getLoopbackAddress(), number)
+                    : new InetSocketAddress(host.trim(), number));
+        } catch (IOException | NumberFormatException e) {
+            LOG.log(Level.SEVERE, "Catalog server not started", e);
+            server = null;
+        }
+    }
+
+    static synchronized void start(Catalog source, InetSocketAddress address) throws IOException {
+        cache = new CatalogCache(source);
+        changes = CatalogEvents.subscribe(change -> change.provider().serviceTypes().forEach(CatalogServer::invalidate));
+        server = HttpServer.create(address, 0);
+        server.createContext("/categories", CatalogServer::categories);
+        server.createContext("/providers", CatalogServer::providers);
+        server.createContext("/changes", exchange -> changes(exchange, source));
+        server.createContext("/login", CatalogServer::login);
+        server.createContext("/signup", CatalogServer::signUp);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (changes != null) {
+            changes.close();
+            changes = null;
+        }
+    }
+
+    /** Drops cached listings for a service type, e.g. after a provider profile is saved. */
+    public static void invalidate(String serviceType) {
+        CatalogCache c = cache;
+        if (c != null) {
+            c.invalidate(serviceType);
+        }
+    }
+
+    private static void categories(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!requireMethod(exchange, "GET")) {
+                return;
+            }
+            sendCached(exchange, cache.categories());
+        } catch (SQLException e) {
+            internalError(exchange, e);
+        }
+    }
+
+    private static void providers(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!requireMethod(exchange, "GET")) {
+                return;
+            }
+            String serviceType = query(exchange).get("service_type");
+            if (serviceType == null || serviceType.isEmpty()) {
+                sendError(exchange, 400, "service_type is required");
+                return;
+            }
+            if (CategoryRegistry.get().byServiceType(serviceType) == null) {
+                sendError(exchange, 404, "Unknown service_type");
+                return;
+            }
+            sendCached(exchange, cache.providers(serviceType));
+        } catch (SQLException e) {
+            internalError(exchange, e);
+        }
+    }
+
+    private static void changes(HttpExchange exchange, Catalog source) throws IOException {
+        try (exchange) {
+            if (!requireMethod(exchange, "GET")) {
+                return;
+            }
+            long since = Long.parseLong(query(exchange).getOrDefault("since", "-1"));
+            sendJson(exchange, 200, source.changesSince(since).toMap());
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "since must be a number");
+        } catch (SQLException e) {
+            internalError(exchange, e);
+        }
+    }
+
+    private static void login(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!requireMethod(exchange, "POST")) {
+                return;
+            }
+            if (!allowLogin(exchange.getRemoteAddress().getAddress(), System.currentTimeMillis())) {
+                LOGINS_THROTTLED.increment();
+                exchange.getResponseHeaders().set("Retry-After", "60");
+                sendError(exchange, 429, "Too many login attempts. Try again in a minute.");
+                return;
+            }
+            Map<String, Object> body = readBody(exchange);
+            boolean ok = auth.login(text(body, "email"), text(body, "password"));
+            sendJson(exchange, ok ? 200 : 401, Map.of("ok", ok));
+        } catch (ValidationException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, "Malformed request body");
+        } catch (SQLException e) {
+            internalError(exchange, e);
+        }
+    }
+
+    private static void signUp(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!requireMethod(exchange, "POST")) {
+                return;
+            }
+            Map<String, Object> body = readBody(exchange);
+            String name = text(body, "name");
+            String email = text(body, "email");
+            String password = text(body, "password");
+            String confirm = text(body, "confirm_password");
+            boolean created = "provider".equals(body.get("kind"))
+                    ? registration.signUpProvider(name, email, password, confirm)
+                    : registration.signUpUser(name, email, password, confirm);
+            sendJson(exchange, created ? 201 : 500, Map.of("ok", created));
+        } catch (ValidationException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, "Malformed request body");
+        } catch (SQLException e) {
+            internalError(exchange, e);
+        }
+    }
+
+    /** Counts an attempt from {@code address}; false once it has used up this minute's. */
+    static boolean allowLogin(InetAddress address, long now) {
+        long minute = now / 60_000;
+        if (ATTEMPTS.size() > 10_000) {
+            ATTEMPTS.values().removeIf(a -> a.minute() != minute);
+        }
+        Attempts attempts = ATTEMPTS.merge(address, new Attempts(minute, 1),
+                (old, first) -> old.minute() == minute ? new Attempts(minute, old.count() + 1) : first);
+        return attempts.count() <= LOGIN_LIMIT;
+    }
+
+    private static void sendCached(HttpExchange exchange, CatalogCache.Entry entry) throws IOException {
+        exchange.getResponseHeaders().set("ETag", entry.etag());
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        if (matches(exchange.getRequestHeaders().getFirst("If-None-Match"), entry.etag())) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        send(exchange, 200, entry.body());
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean requireMethod(HttpExchange exchange, String method) throws IOException {
+        if (method.equals(exchange.getRequestMethod())) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", method);
+        exchange.sendResponseHeaders(405, -1);
+        return false;
+    }
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        String text = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        return text.isBlank() ? new HashMap<>() : Json.parseObject(text);
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static String text(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        return value == null ? "" : value.toString();
+    }
+
+    /** Logs {@code e} and tells the client only that the request failed. */
+    private static void internalError(HttpExchange exchange, SQLException e) throws IOException {
+        LOG.log(Level.WARNING, exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " failed", e);
+        sendError(exchange, 500, "Internal server error");
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", message);
+        sendJson(exchange, status, body);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, Json.write(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Provider listings by service category, straight from the database. Rows
+ * are matched on {@code category_id}, resolved through
+ * {@link CategoryRegistry}; an unknown service type lists nothing without
+ * a query.
+ * Identical queries issued concurrently, from any instance, share one
+ * execution through {@link SingleFlight}; the results are read-only.
+ */
+public final class CatalogService implements Catalog {
+
+    static final int DELTA_PAGE = 5000;
+
+    private static final SingleFlight<SingleFlight.QueryKey, List<Provider>> PROVIDERS = new SingleFlight<>("providers_by_service");
+    private static final SingleFlight<SingleFlight.QueryKey, Map<String, Integer>> CATEGORIES = new SingleFlight<>("category_counts");
+    private static final SingleFlight<SingleFlight.QueryKey, CatalogDelta> CHANGES = new SingleFlight<>("changes_since");
+
+    @Override
+    public List<Provider> providersByService(String serviceType) throws SQLException {
+        CategoryRegistry.Category category = CategoryRegistry.get().byServiceType(serviceType);
+        if (category == null) {
+            return List.of();
+        }
+        return PROVIDERS.run(SingleFlight.QueryKey.of(Queries.PROVIDERS_BY_CATEGORY, category.id()),
+                () -> Collections.unmodifiableList(queryProviders(category.id())));
+    }
+
+    @Override
+    public Map<String, Integer> categories() throws SQLException {
+        return CATEGORIES.run(SingleFlight.QueryKey.of(Queries.CATEGORY_COUNTS),
+                () -> Collections.unmodifiableMap(queryCategories()));
+    }
+
+    @Override
+    public CatalogDelta changesSince(long version) throws SQLException {
+        String sql = version < 0 ? Queries.PROVIDER_SNAPSHOT : Queries.PROVIDER_CHANGES_SINCE;
+        return CHANGES.run(SingleFlight.QueryKey.of(sql, version < 0 ? -1 : version, DELTA_PAGE),
+                () -> queryChanges(version));
+    }
+
+    private static List<Provider> queryProviders(int categoryId) throws SQLException {
+        List<Provider> providers = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.PROVIDERS_BY_CATEGORY)) {
+            pst.setInt(1, categoryId);
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    providers.add(read(rs));
+                }
+            }
+        }
+        return providers;
+    }
+
+    private static Map<String, Integer> queryCategories() throws SQLException {
+        CategoryRegistry registry = CategoryRegistry.get();
+        Map<String, Integer> counts = new TreeMap<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.CATEGORY_COUNTS);
+             ResultSet rs = pst.executeQuery()) {
+            while (rs.next()) {
+                CategoryRegistry.Category category = registry.byId(rs.getInt("category_id"));
+                if (category != null) {
+                    counts.put(category.serviceType(), rs.getInt("providers"));
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static CatalogDelta queryChanges(long version) throws SQLException {
+        boolean snapshot = version < 0;
+        List<CatalogDelta.Entry> entries = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(snapshot ? Queries.PROVIDER_SNAPSHOT : Queries.PROVIDER_CHANGES_SINCE)) {
+            if (!snapshot) {
+                pst.setLong(1, version);
+                pst.setInt(2, DELTA_PAGE);
+            }
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    entries.add(new CatalogDelta.Entry(rs.getLong("version"), rs.getInt("deleted") != 0, read(rs)));
+                }
+            }
+        }
+        return new CatalogDelta(Collections.unmodifiableList(entries), snapshot || entries.size() < DELTA_PAGE);
+    }
+
+    /** The listing row for one {@code ServiceProviders.id}, or null if it is gone. */
+    static Provider providerById(Connection conn, long id) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(Queries.PROVIDER_BY_ID)) {
+            pst.setLong(1, id);
+            try (ResultSet rs = pst.executeQuery()) {
+                return rs.next() ? read(rs) : null;
+            }
+        }
+    }
+
+    private static Provider read(ResultSet rs) throws SQLException {
+        String serviceType = rs.getString("service_type");
+        return new Provider(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("email"),
+                serviceType,
+                rs.getString("address"),
+                rs.getString("contact_number"),
+                rs.getString("Experience"),
+                rs.getString("DOB"),
+                serviceTypes(serviceType, rs.getString("category_ids")));
+    }
+
+    /** The primary service type followed by the provider's other categories. */
+    private static List<String> serviceTypes(String primary, String categoryIds) throws SQLException {
+        List<String> types = new ArrayList<>();
+        if (primary != null) {
+            types.add(primary);
+        }
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            CategoryRegistry registry = CategoryRegistry.get();
+            for (String id : categoryIds.split(",")) {
+                CategoryRegistry.Category category = registry.byId(Integer.parseInt(id.trim()));
+                if (category != null && !types.contains(category.serviceType())) {
+                    types.add(category.serviceType());
+                }
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,73 @@
+package loginandsignup;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Listed providers per service type, for the category buttons. Loaded with
+ * the {@code GROUP BY service_type} aggregate ({@link Catalog#categories()})
+ * and then kept current from {@link CatalogEvents}: inserts and deletes
+ * adjust the counts of the provider's categories in place, anything else
+ * marks the counts stale so the next read runs the aggregate again.
+ */
+public final class CategoryCounts {
+
+    private static CategoryCounts shared;
+
+    private final Catalog source;
+    private Map<String, Integer> counts = new HashMap<>();
+    private boolean stale = true;
+    private long changes;
+
+    CategoryCounts(Catalog source) {
+        this.source = source;
+        CatalogEvents.subscribe(this::apply);
+    }
+
+    /** One instance per process, over {@link Catalog#configured()}. */
+    public static synchronized CategoryCounts shared() {
+        if (shared == null) {
+            shared = new CategoryCounts(Catalog.configured());
+        }
+        return shared;
+    }
+
+    /** Counts by service type; types without providers are absent. */
+    public Map<String, Integer> counts() throws SQLException {
+        long seen;
+        synchronized (this) {
+            if (!stale) {
+                return Collections.unmodifiableMap(new HashMap<>(counts));
+            }
+            seen = changes;
+        }
+        Map<String, Integer> fresh = new HashMap<>(source.categories());
+        synchronized (this) {
+            counts = fresh;
+            // a change that landed mid-query may or may not be in the result
+            stale = changes != seen;
+            return Collections.unmodifiableMap(new HashMap<>(fresh));
+        }
+    }
+
+    /** The count, or -1 when the counts have not been loaded or need a reload. */
+    public synchronized int known(String serviceType) {
+        return stale ? -1 : counts.getOrDefault(serviceType, 0);
+    }
+
+    private synchronized void apply(CatalogEvents.Change change) {
+        changes++;
+        if (stale) {
+            return;
+        }
+        for (String serviceType : change.provider().serviceTypes()) {
+            switch (change.kind()) {
+                case INSERTED -> counts.merge(serviceType, 1, Integer::sum);
+                case DELETED -> counts.computeIfPresent(serviceType, (k, n) -> n > 1 ? n - 1 : null);
+                default -> stale = true; // the old service types are unknown
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@code ServiceCategories} table, read once and kept as an immutable
+ * snapshot. Adding a category is a row insert and a restart; nothing else
+ * in the app names a service type.
+ */
+public final class CategoryRegistry {
+
+    private static final Logger LOG = Logger.getLogger(CategoryRegistry.class.getName());
+
+    /** One category. {@code serviceType} is the key stored on provider rows; {@code icon} may be null. */
+    public record Category(int id, String serviceType, String displayName, String section, String icon) {
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    private static volatile CategoryRegistry loaded;
+
+    private final List<Category> all;
+    private final Map<Integer, Category> byId = new HashMap<>();
+    private final Map<String, Category> byServiceType = new HashMap<>();
+    private final Map<String, List<Category>> bySection;
+
+    CategoryRegistry(List<Category> categories) {
+        all = List.copyOf(categories);
+        Map<String, List<Category>> sections = new LinkedHashMap<>();
+        for (Category category : all) {
+            byId.put(category.id(), category);
+            byServiceType.put(category.serviceType(), category);
+            sections.computeIfAbsent(category.section(), k -> new ArrayList<>()).add(category);
+        }
+        sections.replaceAll((k, v) -> List.copyOf(v));
+        bySection = Collections.unmodifiableMap(sections);
+    }
+
+    /** The registry, loading it on first use. A failed load is retried by the next call. */
+    public static CategoryRegistry get() throws SQLException {
+        CategoryRegistry registry = loaded;
+        if (registry == null) {
+            synchronized (CategoryRegistry.class) {
+                registry = loaded;
+                if (registry == null) {
+                    registry = load();
+                    loaded = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /** Loads the registry on a background thread so the first screen that needs it does not wait. */
+    public static void preload() {
+        Thread thread = new Thread(() -> {
+            try {
+                get();
+            } catch (SQLException e) {
+                LOG.log(Level.WARNING, "Service categories unavailable, will retry on first use", e);
+            }
+        }, "lsf-categories");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Every category in display order. */
+    public List<Category> all() {
+        return all;
+    }
+
+    /** Categories grouped by section, sections in the order they first appear. */
+    public Map<String, List<Category>> bySection() {
+        return bySection;
+    }
+
+    public Category byId(int id) {
+        return byId.get(id);
+    }
+
+    /** The category for a provider's {@code service_type}, or null if there is none. */
+    public Category byServiceType(String serviceType) {
+        return byServiceType.get(serviceType);
+    }
+
+    private static CategoryRegistry load() throws SQLException {
+        List<Category> categories = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.SERVICE_CATEGORIES);
+             ResultSet rs = pst.executeQuery()) {
+            while (rs.next()) {
+                categories.add(new Category(rs.getInt("id"), rs.getString("service_type"),
+                        rs.getString("display_name"), rs.getString("section"), rs.getString("icon")));
+            }
+        }
+        return new CategoryRegistry(categories);
+    }
+}
@@ -0,0 +1,72 @@
+package loginandsignup;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Rows in {@code CatalogChangeLog}, written in the same transaction as the
+ * provider change they describe so other nodes can find it with
+ * {@link ChangeLogPoller}.
+ */
+final class ChangeLog {
+
+    static final String PROVIDER = "ServiceProviders";
+    static final String PROVIDER_SIGNUP = "ServiceProvidersSignUp";
+
+    /** Identifies this JVM in the log so the poller can skip its own writes. */
+    static final String NODE = node();
+
+    private ChangeLog() {
+    }
+
+    /** Returns the log id; provider writes pass it to {@link #providerVersion}. */
+    static long record(Connection conn, String entity, long rowId, String email, String serviceType,
+            CatalogEvents.Kind kind) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(Queries.INSERT_CHANGE, Statement.RETURN_GENERATED_KEYS)) {
+            pst.setString(1, entity);
+            pst.setLong(2, rowId);
+            pst.setString(3, email);
+            if (serviceType == null) {
+                pst.setNull(4, Types.VARCHAR);
+            } else {
+                pst.setString(4, serviceType);
+            }
+            pst.setString(5, kind.name());
+            pst.setString(6, NODE);
+            pst.executeUpdate();
+            return generatedKey(pst);
+        }
+    }
+
+    /**
+     * The next {@code ServiceProviders.version}, taken in the caller's
+     * transaction. Versions have their own sequence because sign-ups also
+     * write to the log, and their ids would be holes in what replicas follow.
+     */
+    static long providerVersion(Connection conn, long changeId) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(Queries.INSERT_PROVIDER_VERSION,
+                Statement.RETURN_GENERATED_KEYS)) {
+            pst.setLong(1, changeId);
+            pst.executeUpdate();
+            return generatedKey(pst);
+        }
+    }
+
+    private static String node() {
+        String node = Integer.toHexString(ThreadLocalRandom.current().nextInt())
+                + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        return node.length() > 64 ? node.substring(0, 64) : node; // column width
+    }
+
+    static long generatedKey(PreparedStatement pst) throws SQLException {
+        try (ResultSet keys = pst.getGeneratedKeys()) {
+            return keys.next() ? keys.getLong(1) : 0;
+        }
+    }
+}
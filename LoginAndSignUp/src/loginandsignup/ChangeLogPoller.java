@@ -0,0 +1,163 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Follows {@code CatalogChangeLog} so provider changes made by other app
+ * instances reach this one within {@code -Dlsf.changelog.poll.ms} (default
+ * 1 s; 0 disables). Each poll is a primary-key range read above the last id
+ * seen; changes from other nodes are republished on {@link CatalogEvents},
+ * which patches open tables and evicts the {@link CatalogServer} cache.
+ */
+public final class ChangeLogPoller {
+
+    private static final Logger LOG = Logger.getLogger(ChangeLogPoller.class.getName());
+
+    static final long PERIOD_MILLIS = Long.getLong("lsf.changelog.poll.ms", 1000);
+    private static final int BATCH = 500;
+
+    public static final LongAdder APPLIED = Metrics.counter("lsf_changelog_applied_total", "Remote catalog changes applied");
+    public static final LongAdder POLLS = Metrics.counter("lsf_changelog_polls_total", "Change-log polls");
+
+    private static volatile IdWatermark watermark;
+    private static Thread thread;
+
+    static {
+        Metrics.gauge("lsf_changelog_watermark", "Last change-log id applied",
+                () -> watermark == null ? 0 : watermark.high());
+    }
+
+    private ChangeLogPoller() {
+    }
+
+    public static synchronized void start() {
+        if (thread != null || PERIOD_MILLIS <= 0) {
+            return;
+        }
+        thread = new Thread(ChangeLogPoller::run, "lsf-changelog-poller");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public static synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    private static void run() {
+        try {
+            watermark = startingWatermark();
+        } catch (SQLException e) {
+            LOG.log(Level.WARNING, "Change log unavailable, cross-node invalidation is off", e);
+            return;
+        }
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(PERIOD_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                while (poll() == BATCH) {
+                    // drain a backlog without waiting another period
+                }
+            } catch (SQLException e) {
+                LOG.log(Level.WARNING, "Change-log poll failed", e);
+            }
+        }
+    }
+
+    /**
+     * Applies entries above the watermark, then re-reads the ids still
+     * missing below it; returns how many new ones were read. New ids are
+     * read on their own so a backlog of gaps never pushes them out of the
+     * batch.
+     */
+    static synchronized int poll() throws SQLException {
+        POLLS.increment();
+        IdWatermark position = watermark;
+        if (position == null) {
+            position = watermark = new IdWatermark(0);
+        }
+        long high = position.high();
+        long since = position.since();
+        int fresh;
+        try (Connection conn = Database.getConnection()) {
+            try (PreparedStatement pst = conn.prepareStatement(Queries.CHANGES_SINCE)) {
+                pst.setLong(1, high);
+                pst.setInt(2, BATCH);
+                fresh = apply(conn, pst, position);
+            }
+            if (since < high) {
+                try (PreparedStatement pst = conn.prepareStatement(Queries.CHANGES_BETWEEN)) {
+                    pst.setLong(1, since);
+                    pst.setLong(2, high);
+                    pst.setInt(3, BATCH);
+                    apply(conn, pst, position);
+                }
+            }
+        }
+        position.expire();
+        return fresh;
+    }
+
+    /** Applies the rows {@code pst} reads that the watermark has not seen; returns how many rows were read. */
+    private static int apply(Connection conn, PreparedStatement pst, IdWatermark position) throws SQLException {
+        int read = 0;
+        try (ResultSet rs = pst.executeQuery()) {
+            while (rs.next()) {
+                read++;
+                if (position.accept(rs.getLong("id")) && !ChangeLog.NODE.equals(rs.getString("node"))) {
+                    apply(conn, rs.getString("entity"), rs.getLong("row_id"), rs.getString("change_kind"));
+                }
+            }
+        }
+        return read;
+    }
+
+    private static void apply(Connection conn, String entity, long rowId, String kind) throws SQLException {
+        if (!ChangeLog.PROVIDER.equals(entity)) {
+            return; // a sign-up alone is not listed anywhere
+        }
+        Provider provider = CatalogService.providerById(conn, rowId);
+        if (provider != null) {
+            APPLIED.increment();
+            CatalogEvents.publish(new CatalogEvents.Change(CatalogEvents.Kind.valueOf(kind), provider));
+        }
+    }
+
+    /**
+     * Starts at the newest log id. Ids just below it that are not visible yet
+     * may still commit, so they are tracked as gaps instead of being skipped.
+     */
+    private static IdWatermark startingWatermark() throws SQLException {
+        try (Connection conn = Database.getConnection()) {
+            long latest;
+            try (PreparedStatement pst = conn.prepareStatement(Queries.LATEST_CHANGE_ID);
+                 ResultSet rs = pst.executeQuery()) {
+                latest = rs.next() ? rs.getLong("id") : 0;
+            }
+            List<Long> seen = new ArrayList<>();
+            try (PreparedStatement pst = conn.prepareStatement(Queries.CHANGES_SINCE)) {
+                pst.setLong(1, Math.max(0, latest - IdWatermark.MAX_GAPS));
+                pst.setInt(2, IdWatermark.MAX_GAPS);
+                try (ResultSet rs = pst.executeQuery()) {
+                    while (rs.next()) {
+                        seen.add(rs.getLong("id"));
+                    }
+                }
+            }
+            return new IdWatermark(latest, seen);
+        }
+    }
+}
@@ -9,7 +9,7 @@ public class Conn {
     Statement s;
     Conn(){
         try{
-           c = DriverManager.getConnection("jdbc:mysql:///ServiceApp", "root", "student");
+           c = Database.getConnection();
            s = c.createStatement();
         }catch(Exception e){
             e.printStackTrace();
@@ -0,0 +1,23 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Single place the app opens ServiceApp connections. Every connection is
+ * wrapped so statement timings end up in {@link QueryStats}.
+ */
+public final class Database {
+
+    static final String URL = System.getProperty("lsf.db.url", "jdbc:mysql://localhost:3306/ServiceApp");
+    static final String USER = System.getProperty("lsf.db.user", "root");
+    static final String PASSWORD = System.getProperty("lsf.db.password", "student");
+
+    private Database() {
+    }
+
+    public static Connection getConnection() throws SQLException {
+        return InstrumentedConnection.wrap(DriverManager.getConnection(URL, USER, PASSWORD));
+    }
+}
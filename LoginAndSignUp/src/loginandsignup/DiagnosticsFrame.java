@@ -0,0 +1,134 @@
+package loginandsignup;
+
+import java.awt.KeyboardFocusManager;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JFrame;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Live view of {@link QueryStats}, hottest statements first, with the heap
+ * held by the {@link Icons} cache and by {@link Navigator} screens in the
+ * title. Opened with Ctrl+Shift+D from any window once
+ * {@link #installShortcut()} has run.
+ */
+public class DiagnosticsFrame extends JFrame {
+
+    private static final String[] COLUMNS = {
+        "Statement", "Calls", "Errors", "Rows", "p50 ms", "p95 ms", "p99 ms", "Max ms", "Total ms"
+    };
+
+    private static DiagnosticsFrame open;
+
+    private final StatsModel model = new StatsModel();
+    private final Timer refresh;
+
+    public DiagnosticsFrame() {
+        setTitle("LSF Diagnostics");
+        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+
+        JTable table = new JTable(model);
+        table.setAutoCreateRowSorter(true);
+        table.getColumnModel().getColumn(0).setPreferredWidth(520);
+        getContentPane().add(new JScrollPane(table));
+        setSize(1100, 400);
+
+        refresh = new Timer(1000, e -> reload());
+        refresh.start();
+        reload();
+    }
+
+    private void reload() {
+        model.reload();
+        setTitle(String.format("LSF Diagnostics - images %.1f MB (%d hits, %d decodes), %d screens using %.1f MB",
+                Icons.cachedBytes() / (1024.0 * 1024.0), Icons.HITS.sum(), Icons.MISSES.sum(),
+                Navigator.liveScreens(), Navigator.imageBytes() / (1024.0 * 1024.0)));
+    }
+
+    @Override
+    public void dispose() {
+        refresh.stop();
+        open = null;
+        super.dispose();
+    }
+
+    public static void showWindow() {
+        if (open == null) {
+            open = new DiagnosticsFrame();
+            open.setLocationRelativeTo(null);
+        }
+        open.setVisible(true);
+        open.toFront();
+    }
+
+    public static void installShortcut() {
+        KeyboardFocusManager.getCurrentKeyboardFocusManager().addKeyEventDispatcher(e -> {
+            int mask = InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK;
+            if (e.getID() == KeyEvent.KEY_PRESSED && e.getKeyCode() == KeyEvent.VK_D
+                    && (e.getModifiersEx() & mask) == mask) {
+                showWindow();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static final class StatsModel extends AbstractTableModel {
+
+        private List<Object[]> rows = new ArrayList<>();
+
+        void reload() {
+            List<Object[]> next = new ArrayList<>();
+            for (QueryStats stats : QueryStats.hottest()) {
+                LatencyHistogram h = stats.latency();
+                next.add(new Object[]{
+                    stats.sql(),
+                    h.count(),
+                    stats.errors(),
+                    stats.rows(),
+                    millis(h.percentileMicros(50)),
+                    millis(h.percentileMicros(95)),
+                    millis(h.percentileMicros(99)),
+                    millis(h.maxMicros()),
+                    millis(h.sumMicros())
+                });
+            }
+            rows = next;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column >= 1 && column <= 3 ? Long.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            return rows.get(row)[column];
+        }
+    }
+}
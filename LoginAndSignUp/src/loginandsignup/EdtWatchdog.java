@@ -0,0 +1,163 @@
+package loginandsignup;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.ActionEvent;
+import java.awt.event.InvocationEvent;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches the event dispatch thread for blocking work. A replacement
+ * {@link EventQueue} stamps every dispatch, a daemon thread posts heartbeat
+ * events and checks the stamp, and any dispatch running longer than
+ * {@code -Dlsf.edt.threshold.ms} (default 100) is logged once with the EDT
+ * stack and the action that triggered it.
+ */
+public final class EdtWatchdog {
+
+    private static final Logger LOG = Logger.getLogger(EdtWatchdog.class.getName());
+
+    static final long THRESHOLD_NANOS = Long.getLong("lsf.edt.threshold.ms", 100) * 1_000_000L;
+    private static final long HEARTBEAT_MILLIS = Long.getLong("lsf.edt.heartbeat.ms", 20);
+
+    public static final LatencyHistogram HEARTBEAT = new LatencyHistogram();
+    public static final LatencyHistogram DISPATCH = new LatencyHistogram();
+    public static final LongAdder STALLS = Metrics.counter("lsf_edt_stalls_total", "EDT dispatches over the stall threshold");
+
+    private static volatile Thread edt;
+    private static volatile long dispatchStart;
+    private static volatile AWTEvent dispatching;
+    private static final AtomicLong dispatchSeq = new AtomicLong();
+    private static long reportedSeq = -1;
+    private static boolean installed;
+
+    private EdtWatchdog() {
+    }
+
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(new WatchedQueue());
+
+        Metrics.gauge("lsf_edt_heartbeat_seconds{quantile=\"0.99\"}", "Heartbeat delay on the EDT",
+                () -> HEARTBEAT.percentileMicros(99) / 1e6);
+        Metrics.gauge("lsf_edt_heartbeat_seconds{quantile=\"max\"}", "Heartbeat delay on the EDT",
+                () -> HEARTBEAT.maxMicros() / 1e6);
+        Metrics.gauge("lsf_edt_dispatch_seconds{quantile=\"0.99\"}", "Time spent dispatching one EDT event",
+                () -> DISPATCH.percentileMicros(99) / 1e6);
+
+        Thread monitor = new Thread(EdtWatchdog::monitor, "lsf-edt-watchdog");
+        monitor.setDaemon(true);
+        monitor.start();
+    }
+
+    private static void monitor() {
+        while (true) {
+            long posted = System.nanoTime();
+            EventQueue.invokeLater(() -> HEARTBEAT.recordNanos(System.nanoTime() - posted));
+            try {
+                Thread.sleep(HEARTBEAT_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            checkStall();
+        }
+    }
+
+    private static void checkStall() {
+        long start = dispatchStart;
+        long seq = dispatchSeq.get();
+        Thread thread = edt;
+        if (start == 0 || thread == null || seq == reportedSeq) {
+            return;
+        }
+        long running = System.nanoTime() - start;
+        if (running < THRESHOLD_NANOS) {
+            return;
+        }
+        StackTraceElement[] stack = thread.getStackTrace();
+        if (seq != dispatchSeq.get()) {
+            return; // dispatch finished while we were sampling
+        }
+        reportedSeq = seq;
+        STALLS.increment();
+        StringBuilder message = new StringBuilder()
+                .append("EDT blocked for ").append(running / 1_000_000).append(" ms in ")
+                .append(describe(dispatching));
+        for (StackTraceElement frame : stack) {
+            message.append("\n\tat ").append(frame);
+        }
+        LOG.log(Level.WARNING, message.toString());
+    }
+
+    static String describe(AWTEvent event) {
+        if (event == null) {
+            return "?";
+        }
+        if (event instanceof ActionEvent action) {
+            Object source = action.getSource();
+            String name = source instanceof Component c && c.getName() != null ? c.getName() : "";
+            return "ActionEvent[" + source.getClass().getSimpleName() + " " + name
+                    + " \"" + action.getActionCommand() + "\"] in " + windowOf(source);
+        }
+        if (event instanceof InvocationEvent) {
+            return event.paramString();
+        }
+        return event.getClass().getSimpleName() + "[" + event.paramString() + "] in " + windowOf(event.getSource());
+    }
+
+    private static String windowOf(Object source) {
+        if (source instanceof Component c) {
+            java.awt.Window window = javax.swing.SwingUtilities.getWindowAncestor(c);
+            if (window != null) {
+                return window.getClass().getSimpleName();
+            }
+        }
+        return source == null ? "?" : source.getClass().getSimpleName();
+    }
+
+    private static final class WatchedQueue extends EventQueue {
+
+        private boolean nested;
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            long outerStart = dispatchStart;
+            AWTEvent outerEvent = dispatching;
+            boolean outerNested = nested;
+            edt = Thread.currentThread();
+            nested = false;
+            dispatching = event;
+            long start = System.nanoTime();
+            dispatchSeq.incrementAndGet();
+            dispatchStart = start;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                long now = System.nanoTime();
+                if (!nested) {
+                    DISPATCH.recordNanos(now - start);
+                }
+                dispatchSeq.incrementAndGet();
+                if (outerStart != 0) {
+                    // Inside a modal loop the EDT is still pumping, so the outer
+                    // handler only counts as stalled from this point on.
+                    dispatching = outerEvent;
+                    dispatchStart = now;
+                    nested = true;
+                } else {
+                    dispatchStart = 0;
+                    dispatching = null;
+                    nested = outerNested;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package loginandsignup;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Facet postings over a set of providers: one {@link IdBitmap} per facet
+ * value. A selection ORs the chosen values within a facet and ANDs across
+ * facets. The count for a value is taken against the other facets'
+ * selections, so it is the number of rows that choosing it would leave.
+ * Kept current with {@link #add} and {@link #remove}; not thread-safe.
+ */
+final class FacetIndex {
+
+    static final String UNSPECIFIED = "Unspecified";
+
+    enum Facet {
+        EXPERIENCE("Experience", List.of("0-1 years", "2-4 years", "5-9 years", "10+ years", UNSPECIFIED)) {
+            @Override
+            String valueOf(Provider provider, LocalDate today) {
+                int years = leadingNumber(provider.experience());
+                if (years < 0) {
+                    return UNSPECIFIED;
+                }
+                return years < 2 ? "0-1 years" : years < 5 ? "2-4 years" : years < 10 ? "5-9 years" : "10+ years";
+            }
+        },
+        LOCALITY("Village/City", List.of()) {
+            @Override
+            String valueOf(Provider provider, LocalDate today) {
+                String address = provider.address() == null ? "" : provider.address().strip().replaceAll("\\s+", " ");
+                if (address.isEmpty()) {
+                    return UNSPECIFIED;
+                }
+                // one spelling per place whatever the case it was typed in
+                StringBuilder out = new StringBuilder(address.length());
+                for (String word : address.toLowerCase(Locale.ROOT).split(" ")) {
+                    if (out.length() > 0) {
+                        out.append(' ');
+                    }
+                    out.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+                }
+                return out.toString();
+            }
+        },
+        AGE("Age", List.of("Under 25", "25-34", "35-44", "45-59", "60+", UNSPECIFIED)) {
+            @Override
+            String valueOf(Provider provider, LocalDate today) {
+                String dob = provider.dob();
+                if (dob == null || dob.length() < 10) {
+                    return UNSPECIFIED;
+                }
+                try {
+                    int age = Period.between(LocalDate.parse(dob.substring(0, 10)), today).getYears();
+                    return age < 25 ? "Under 25" : age < 35 ? "25-34" : age < 45 ? "35-44" : age < 60 ? "45-59" : "60+";
+                } catch (DateTimeParseException e) {
+                    return UNSPECIFIED;
+                }
+            }
+        };
+
+        final String label;
+        /** Values shown in this order even when empty; empty for facets whose values come from the data. */
+        final List<String> buckets;
+
+        Facet(String label, List<String> buckets) {
+            this.label = label;
+            this.buckets = buckets;
+        }
+
+        abstract String valueOf(Provider provider, LocalDate today);
+
+        private static int leadingNumber(String text) {
+            if (text == null) {
+                return -1;
+            }
+            int n = -1;
+            for (int i = 0; i < text.length() && Character.isDigit(text.charAt(i)); i++) {
+                n = Math.max(n, 0) * 10 + (text.charAt(i) - '0');
+                if (n > 1000) {
+                    break;
+                }
+            }
+            return n;
+        }
+    }
+
+    private final LocalDate today = LocalDate.now();
+    private final Map<Facet, Map<String, IdBitmap>> postings = new EnumMap<>(Facet.class);
+    private final Map<Long, Provider> providers = new HashMap<>();
+    private IdBitmap all = new IdBitmap();
+
+    FacetIndex() {
+        clear();
+    }
+
+    void clear() {
+        providers.clear();
+        all = new IdBitmap();
+        for (Facet facet : Facet.values()) {
+            Map<String, IdBitmap> values = facet.buckets.isEmpty() ? new TreeMap<>() : new LinkedHashMap<>();
+            for (String bucket : facet.buckets) {
+                values.put(bucket, new IdBitmap());
+            }
+            postings.put(facet, values);
+        }
+    }
+
+    void add(Provider provider) {
+        remove(provider.id());
+        int id = Math.toIntExact(provider.id());
+        providers.put(provider.id(), provider);
+        all.add(id);
+        for (Facet facet : Facet.values()) {
+            postings.get(facet).computeIfAbsent(facet.valueOf(provider, today), k -> new IdBitmap()).add(id);
+        }
+    }
+
+    void remove(long providerId) {
+        Provider old = providers.remove(providerId);
+        if (old == null) {
+            return;
+        }
+        int id = Math.toIntExact(providerId);
+        all.remove(id);
+        for (Facet facet : Facet.values()) {
+            Map<String, IdBitmap> values = postings.get(facet);
+            String value = facet.valueOf(old, today);
+            IdBitmap ids = values.get(value);
+            ids.remove(id);
+            if (ids.isEmpty() && facet.buckets.isEmpty()) {
+                values.remove(value);
+            }
+        }
+    }
+
+    int size() {
+        return providers.size();
+    }
+
+    /** Ids matching every facet in {@code selection}; facets missing or empty there do not filter. */
+    IdBitmap matching(Map<Facet, Set<String>> selection) {
+        return matchingExcept(selection, null);
+    }
+
+    /**
+     * Per value of {@code facet}, how many providers match the selection on
+     * the other facets and have that value.
+     */
+    Map<String, Integer> counts(Facet facet, Map<Facet, Set<String>> selection) {
+        IdBitmap others = matchingExcept(selection, facet);
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, IdBitmap> e : postings.get(facet).entrySet()) {
+            counts.put(e.getKey(), others.andCardinality(e.getValue()));
+        }
+        return counts;
+    }
+
+    private IdBitmap matchingExcept(Map<Facet, Set<String>> selection, Facet skipped) {
+        IdBitmap result = all;
+        for (Map.Entry<Facet, Set<String>> e : selection.entrySet()) {
+            if (e.getKey() == skipped || e.getValue().isEmpty()) {
+                continue;
+            }
+            IdBitmap chosen = new IdBitmap();
+            Map<String, IdBitmap> values = postings.get(e.getKey());
+            for (String value : e.getValue()) {
+                IdBitmap ids = values.get(value);
+                if (ids != null) {
+                    chosen = chosen.or(ids);
+                }
+            }
+            result = result.and(chosen);
+        }
+        return result;
+    }
+}
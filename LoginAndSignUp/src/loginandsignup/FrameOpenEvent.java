@@ -0,0 +1,50 @@
+package loginandsignup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Construction of one of the app's frames. The event duration is the whole
+ * constructor; {@code initComponents} is the part spent building the
+ * generated GUI, the rest is data loading and other setup.
+ */
+@Name("lsf.FrameOpen")
+@Label("Frame Construction")
+@Category({"Local Service Finder", "Swing"})
+@StackTrace(false)
+public class FrameOpenEvent extends jdk.jfr.Event {
+
+    @Label("Frame")
+    String frame;
+
+    @Label("initComponents")
+    @Timespan(Timespan.NANOSECONDS)
+    long initComponents;
+
+    private transient long started;
+
+    public static FrameOpenEvent start(Object frame) {
+        FrameOpenEvent event = new FrameOpenEvent();
+        if (event.isEnabled()) {
+            event.frame = frame.getClass().getSimpleName();
+            event.started = System.nanoTime();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void componentsReady() {
+        if (started != 0) {
+            initComponents = System.nanoTime() - started;
+        }
+    }
+
+    public void finish() {
+        if (started != 0) {
+            commit();
+        }
+    }
+}
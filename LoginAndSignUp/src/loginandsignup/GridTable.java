@@ -0,0 +1,61 @@
+package loginandsignup;
+
+import java.util.List;
+
+/**
+ * A ServiceApp table the {@link AdminGrid} can browse. Every name here is
+ * checked against {@link Schema} and statements are built with {@link Sql},
+ * so values typed by the admin are always bound as parameters.
+ *
+ * @param key     single-column, indexed, unique key the grid pages on
+ * @param columns every column that can be shown, key excluded; passwords are left out
+ * @param shown   the columns shown when the table is first opened
+ * @param deleted soft-delete flag; rows with it set are never shown. May be null
+ */
+record GridTable(Sql.Table table, String key, List<String> columns, List<String> shown, String deleted) {
+
+    static final List<GridTable> ALL = List.of(
+            new GridTable(Schema.PROVIDERS, "id",
+                    List.of("email", "address", "contact_number", "DOB", "service_type", "Experience",
+                            "category_id", "version"),
+                    List.of("address", "contact_number", "DOB", "service_type", "Experience"),
+                    "deleted"),
+            new GridTable(Schema.PROVIDER_SIGNUP, "provider_id",
+                    List.of("name", "email"), List.of("name", "email"), null),
+            new GridTable(Schema.USER_SIGNUP, "id",
+                    List.of("name", "email"), List.of("name", "email"), null),
+            new GridTable(Schema.USERS, "id",
+                    List.of("address", "contact_number", "DOB"), List.of("address", "contact_number", "DOB"), null),
+            new GridTable(Schema.SERVICE_CATEGORIES, "id",
+                    List.of("service_type", "display_name", "section", "icon", "sort_order"),
+                    List.of("service_type", "display_name", "section", "sort_order"), null),
+            new GridTable(Schema.CHANGE_LOG, "id",
+                    List.of("entity", "row_id", "email", "service_type", "change_kind", "node", "changed_at"),
+                    List.of("entity", "row_id", "change_kind", "node", "changed_at"), null));
+
+    GridTable {
+        columns = List.copyOf(columns);
+        shown = List.copyOf(shown);
+        table.column(key);
+        columns.forEach(table::column);
+        if (deleted != null) {
+            table.column(deleted);
+        }
+        if (!columns.containsAll(shown)) {
+            throw new IllegalArgumentException("Shown columns of " + table.name() + " must be listed: " + shown);
+        }
+    }
+
+    /** The column itself if the grid may show or filter on it, otherwise an exception. */
+    String column(String column) {
+        if (!column.equals(key) && !columns.contains(column)) {
+            throw new IllegalArgumentException(table.name() + " has no column " + column);
+        }
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return table.name();
+    }
+}
@@ -0,0 +1,167 @@
+package loginandsignup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Catalog} backed by a {@link CatalogServer}. The last response for
+ * each URL is kept with its ETag and revalidated with {@code If-None-Match},
+ * so an unchanged listing comes back as a bodyless 304. Failures surface as
+ * {@link SQLException} so callers handle them like a database error. Also
+ * posts logins and sign-ups for {@link AuthService} and
+ * {@link RegistrationService} when they are configured to use the server.
+ */
+final class HttpCatalogClient implements Catalog {
+
+    private static final Map<String, HttpCatalogClient> CLIENTS = new ConcurrentHashMap<>();
+
+    private record Cached(String etag, Object value) {
+    }
+
+    private final String baseUrl;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, Cached> responses = new ConcurrentHashMap<>();
+
+    private HttpCatalogClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /** One client (and one response cache) per server URL. */
+    static HttpCatalogClient forUrl(String baseUrl) {
+        return CLIENTS.computeIfAbsent(baseUrl, HttpCatalogClient::new);
+    }
+
+    @Override
+    public List<Provider> providersByService(String serviceType) throws SQLException {
+        Object body = get("/providers?service_type=" + URLEncoder.encode(serviceType, StandardCharsets.UTF_8));
+        List<Provider> providers = new ArrayList<>();
+        if (body instanceof Map<?, ?> map && map.get("providers") instanceof List<?> rows) {
+            for (Object row : rows) {
+                providers.add(Provider.fromMap((Map<?, ?>) row));
+            }
+        }
+        return providers;
+    }
+
+    @Override
+    public Map<String, Integer> categories() throws SQLException {
+        Map<String, Integer> counts = new TreeMap<>();
+        if (get("/categories") instanceof List<?> rows) {
+            for (Object row : rows) {
+                Map<?, ?> map = (Map<?, ?>) row;
+                counts.put(String.valueOf(map.get("service_type")), ((Number) map.get("providers")).intValue());
+            }
+        }
+        return counts;
+    }
+
+    /** Deltas are not cached; an unchanged catalog is already an empty, cheap response. */
+    @Override
+    public CatalogDelta changesSince(long version) throws SQLException {
+        Object body = fetch("/changes?since=" + version, null).value();
+        return CatalogDelta.fromMap((Map<?, ?>) body);
+    }
+
+    /** POST /login; false for a wrong email or password. */
+    boolean login(String email, String password) throws ValidationException, SQLException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("email", email);
+        body.put("password", password);
+        HttpResponse<String> response = post("/login", body);
+        return switch (response.statusCode()) {
+            case 200 -> true;
+            case 401 -> false;
+            default -> throw failure(response);
+        };
+    }
+
+    /** POST /signup for a {@code "user"} or {@code "provider"}; false if nothing was inserted. */
+    boolean signUp(String kind, String name, String email, String password, String confirmPassword)
+            throws ValidationException, SQLException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("kind", kind);
+        body.put("name", name);
+        body.put("email", email);
+        body.put("password", password);
+        body.put("confirm_password", confirmPassword);
+        HttpResponse<String> response = post("/signup", body);
+        if (response.statusCode() == 201) {
+            return true;
+        }
+        if (response.statusCode() == 500 && Json.parse(response.body()) instanceof Map<?, ?> map
+                && Boolean.FALSE.equals(map.get("ok"))) {
+            return false;
+        }
+        throw failure(response);
+    }
+
+    private HttpResponse<String> post(String path, Map<String, Object> body) throws SQLException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(Json.write(body), StandardCharsets.UTF_8))
+                .build();
+        return send(request);
+    }
+
+    /** Throws the message of a 400 or 429, which is meant for the user; anything else is a server error. */
+    private static SQLException failure(HttpResponse<String> response) throws ValidationException {
+        int status = response.statusCode();
+        if ((status == 400 || status == 429) && Json.parse(response.body()) instanceof Map<?, ?> map
+                && map.get("error") != null) {
+            throw new ValidationException(map.get("error").toString());
+        }
+        return new SQLException("Catalog server returned " + status);
+    }
+
+    private Object get(String path) throws SQLException {
+        Cached cached = responses.get(path);
+        Cached fresh = fetch(path, cached);
+        if (fresh != cached && fresh.etag() != null) {
+            responses.put(path, fresh);
+        }
+        return fresh.value();
+    }
+
+    /** Returns {@code cached} itself on 304. */
+    private Cached fetch(String path, Cached cached) throws SQLException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET();
+        if (cached != null) {
+            request.header("If-None-Match", cached.etag());
+        }
+        HttpResponse<String> response = send(request.build());
+        if (response.statusCode() == 304 && cached != null) {
+            return cached;
+        }
+        if (response.statusCode() != 200) {
+            throw new SQLException("Catalog server returned " + response.statusCode() + ": " + response.body());
+        }
+        return new Cached(response.headers().firstValue("ETag").orElse(null), Json.parse(response.body()));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws SQLException {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new SQLException("Catalog server unreachable: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for the catalog server", e);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package loginandsignup;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.swing.Icon;
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+/**
+ * Loads the bundled images used by the forms. The generated code calls this
+ * instead of {@code new ImageIcon(getClass().getResource(..))} so every
+ * decode is visible in flight recordings.
+ * <p>
+ * Decoded icons are shared process-wide, keyed by resource path and target
+ * size, and held through soft references so the GC can reclaim them under
+ * memory pressure. Reopening a frame therefore costs no decode. The heap held
+ * by the cache is exported as {@code lsf_image_cache_bytes}.
+ * <p>
+ * Large images that are shown well below their own resolution can be decoded
+ * with {@link #loadSubsampled} so only every n-th pixel is ever materialised.
+ * Forms that should show before their images are decoded use
+ * {@link #loadAsync}. Icons listed in {@code tools/atlas.list} are packed at
+ * build time into one atlas image, read once and sliced here.
+ */
+public final class Icons {
+
+    private static final Logger LOG = Logger.getLogger(Icons.class.getName());
+
+    public static final LongAdder HITS = Metrics.counter("lsf_image_cache_total{result=\"hit\"}", "Icon cache lookups");
+    public static final LongAdder MISSES = Metrics.counter("lsf_image_cache_total{result=\"miss\"}", "Icon cache lookups");
+
+    private record Key(String path, int width, int height, int subsampling) {
+    }
+
+    private static final class Entry extends SoftReference<ImageIcon> {
+
+        final Key key;
+        final long bytes;
+
+        Entry(Key key, ImageIcon icon, long bytes) {
+            super(icon, CLEARED);
+            this.key = key;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final ReferenceQueue<ImageIcon> CLEARED = new ReferenceQueue<>();
+    private static final Map<Key, Entry> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicLong BYTES = new AtomicLong();
+    private static final Map<String, Dimension> SOURCE_SIZES = new ConcurrentHashMap<>();
+    /** Background loads in flight, so icons requested again before they finish share one decode. */
+    private static final Map<Key, CompletableFuture<ImageIcon>> LOADING = new ConcurrentHashMap<>();
+    private static final Color PLACEHOLDER = new Color(0, 0, 0, 24);
+    private static final AtomicInteger DECODER_THREADS = new AtomicInteger();
+    private static final ExecutorService DECODER = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())), r -> {
+                Thread t = new Thread(r, "lsf-icons-" + DECODER_THREADS.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+
+    static {
+        Metrics.gauge("lsf_image_cache_bytes", "Decoded image bytes held by the icon cache", Icons::cachedBytes);
+        Metrics.gauge("lsf_image_cache_entries", "Icons held by the icon cache", () -> {
+            expunge();
+            return CACHE.size();
+        });
+    }
+
+    private Icons() {
+    }
+
+    public static ImageIcon load(String path) {
+        return load(path, 0, 0);
+    }
+
+    /** The image scaled to {@code width} x {@code height}; 0 for both keeps its own size. */
+    public static ImageIcon load(String path, int width, int height) {
+        return cached(new Key(path, width, height, 1));
+    }
+
+    /**
+     * The cached icon if there is one; otherwise a placeholder of the image's
+     * size (read from its header) that is swapped for the decoded image on
+     * the EDT once a background thread has loaded it, or for a blank icon if
+     * the load failed.
+     */
+    public static Icon loadAsync(String path) {
+        return loadAsync(path, 0, 0);
+    }
+
+    /** {@link #loadAsync(String)} scaled to {@code width} x {@code height}; 0 for both keeps its own size. */
+    public static Icon loadAsync(String path, int width, int height) {
+        Key key = new Key(path, width, height, 1);
+        Entry entry = CACHE.get(key);
+        ImageIcon icon = entry == null ? null : entry.get();
+        if (icon != null) {
+            HITS.increment();
+            return icon;
+        }
+        Dimension size = width > 0 ? new Dimension(width, height) : SOURCE_SIZES.computeIfAbsent(path, Icons::readSize);
+        PendingIcon pending = new PendingIcon(size.width, size.height);
+        CompletableFuture<ImageIcon> created = new CompletableFuture<>();
+        CompletableFuture<ImageIcon> loading = LOADING.putIfAbsent(key, created);
+        if (loading == null) {
+            loading = created;
+            DECODER.execute(() -> {
+                try {
+                    created.complete(cached(key));
+                } catch (RuntimeException | Error e) {
+                    LOG.log(Level.WARNING, "Loading " + path + " failed", e);
+                    created.completeExceptionally(e);
+                } finally {
+                    LOADING.remove(key, created);
+                }
+            });
+        }
+        loading.whenComplete((loaded, e) -> SwingUtilities.invokeLater(
+                () -> pending.loaded(e == null ? loaded : blank(size.width, size.height))));
+        return pending;
+    }
+
+    /** The image decoded with only every {@code subsampling}-th pixel in each direction. */
+    public static ImageIcon loadSubsampled(String path, int subsampling) {
+        return cached(new Key(path, 0, 0, Math.max(1, subsampling)));
+    }
+
+    /**
+     * The largest subsampling that still leaves the image covering
+     * {@code width} x {@code height}. Only the image header is read.
+     */
+    public static int subsamplingFor(String path, int width, int height) {
+        Dimension source = SOURCE_SIZES.computeIfAbsent(path, Icons::readSize);
+        if (source.width <= 0 || width <= 0 || height <= 0) {
+            return 1;
+        }
+        return Math.max(1, Math.min(source.width / width, source.height / height));
+    }
+
+    private static ImageIcon cached(Key key) {
+        expunge();
+        Entry entry = CACHE.get(key);
+        ImageIcon icon = entry == null ? null : entry.get();
+        if (icon != null) {
+            HITS.increment();
+            return icon;
+        }
+        MISSES.increment();
+        icon = decode(key);
+        long bytes = decodedBytes(icon);
+        Entry previous = CACHE.put(key, new Entry(key, icon, bytes));
+        BYTES.addAndGet(bytes);
+        if (previous != null) {
+            BYTES.addAndGet(-previous.bytes);
+        }
+        return icon;
+    }
+
+    /** Heap held by decoded icons that have not been reclaimed. */
+    public static long cachedBytes() {
+        expunge();
+        return BYTES.get();
+    }
+
+    private static ImageIcon decode(Key key) {
+        String path = key.path();
+        int width = key.width();
+        int height = key.height();
+        ImageLoadEvent event = new ImageLoadEvent();
+        event.begin();
+        URL url = Icons.class.getResource(path);
+        ImageIcon icon;
+        BufferedImage image = null;
+        try {
+            image = Atlas.slice(path, width, height);
+            if (image == null && url != null) {
+                image = read(url, key.subsampling());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // fall back to the toolkit decoder below
+        }
+        if (image == null && url == null) {
+            LOG.warning("Missing image resource " + path);
+            icon = blank(width, height);
+        } else if (image == null) {
+            icon = new ImageIcon(url);
+            if (width > 0 && height > 0) {
+                icon = new ImageIcon(icon.getImage().getScaledInstance(width, height, Image.SCALE_SMOOTH));
+            }
+        } else {
+            icon = new ImageIcon(width > 0 && height > 0 ? scale(image, width, height) : image);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.width = icon.getIconWidth();
+            event.height = icon.getIconHeight();
+            event.decodedBytes = decodedBytes(icon);
+            event.commit();
+        }
+        return icon;
+    }
+
+    private static BufferedImage read(URL url, int subsampling) throws IOException {
+        if (subsampling <= 1) {
+            return ImageIO.read(url);
+        }
+        try (InputStream in = url.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Dimension readSize(String path) {
+        Rectangle packed = Atlas.INDEX.get(path);
+        if (packed != null) {
+            return packed.getSize();
+        }
+        URL url = Icons.class.getResource(path);
+        if (url == null) {
+            return new Dimension();
+        }
+        try (InputStream in = url.openStream(); ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (readers.hasNext()) {
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(stream, true, true);
+                    return new Dimension(reader.getWidth(0), reader.getHeight(0));
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            // unknown size; callers fall back to a full decode
+        }
+        return new Dimension();
+    }
+
+    /** A transparent icon standing in for an image that could not be loaded. */
+    private static ImageIcon blank(int width, int height) {
+        return new ImageIcon(new BufferedImage(Math.max(1, width), Math.max(1, height), BufferedImage.TYPE_INT_ARGB));
+    }
+
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        if (source.getWidth() == width && source.getHeight() == height) {
+            return source;
+        }
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static long decodedBytes(ImageIcon icon) {
+        return bytesOf(icon.getImage());
+    }
+
+    /** Heap taken by the pixels of {@code image}; ARGB is assumed for toolkit images. */
+    static long bytesOf(Image image) {
+        if (image instanceof BufferedImage buffered) {
+            // per pixel rather than the whole buffer, which atlas slices share
+            int bytesPerPixel = buffered.getSampleModel().getNumDataElements()
+                    * DataBuffer.getDataTypeSize(buffered.getSampleModel().getDataType()) / 8;
+            return (long) bytesPerPixel * buffered.getWidth() * buffered.getHeight();
+        }
+        return 4L * Math.max(0, image.getWidth(null)) * Math.max(0, image.getHeight(null));
+    }
+
+    /** The decoded image behind an icon from this class, or null while it is still loading. */
+    static Image imageOf(Icon icon) {
+        if (icon instanceof PendingIcon pending) {
+            icon = pending.loaded;
+        }
+        return icon instanceof ImageIcon image ? image.getImage() : null;
+    }
+
+    /** The build-time icon atlas; empty when the build did not produce one. */
+    private static final class Atlas {
+
+        static final Map<String, Rectangle> INDEX = readIndex();
+        private static BufferedImage image;
+
+        /** The pre-scaled copy if one was packed, else the icon at its own size, else null. */
+        static BufferedImage slice(String path, int width, int height) throws IOException {
+            Rectangle slot = width > 0 && height > 0 ? INDEX.get(path + "@" + width + "x" + height) : null;
+            if (slot == null) {
+                slot = INDEX.get(path);
+            }
+            if (slot == null) {
+                return null;
+            }
+            return image().getSubimage(slot.x, slot.y, slot.width, slot.height);
+        }
+
+        private static synchronized BufferedImage image() throws IOException {
+            if (image == null) {
+                image = ImageIO.read(Icons.class.getResource("/loginandsignup/atlas.png"));
+            }
+            return image;
+        }
+
+        /** Lines of {@code x y width height key}, written by AtlasPacker. */
+        private static Map<String, Rectangle> readIndex() {
+            Map<String, Rectangle> index = new HashMap<>();
+            InputStream in = Icons.class.getResourceAsStream("/loginandsignup/atlas.idx");
+            if (in == null) {
+                return index;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] f = line.split(" ", 5);
+                    if (f.length == 5) {
+                        index.put(f[4], new Rectangle(Integer.parseInt(f[0]), Integer.parseInt(f[1]),
+                                Integer.parseInt(f[2]), Integer.parseInt(f[3])));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                index.clear(); // fall back to the individual resources
+            }
+            return index;
+        }
+    }
+
+    /** Paints a translucent box until the real image arrives; EDT only. */
+    private static final class PendingIcon implements Icon {
+
+        private final int width;
+        private final int height;
+        private final Set<Component> painted = Collections.newSetFromMap(new WeakHashMap<>());
+        private ImageIcon loaded;
+
+        PendingIcon(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            if (loaded != null) {
+                loaded.paintIcon(c, g, x, y);
+                return;
+            }
+            painted.add(c);
+            g.setColor(PLACEHOLDER);
+            g.fillRect(x, y, width, height);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return loaded != null ? loaded.getIconWidth() : width;
+        }
+
+        @Override
+        public int getIconHeight() {
+            return loaded != null ? loaded.getIconHeight() : height;
+        }
+
+        void loaded(ImageIcon icon) {
+            loaded = icon;
+            boolean resized = icon.getIconWidth() != width || icon.getIconHeight() != height;
+            for (Component c : painted) {
+                if (resized && c instanceof JComponent jc) {
+                    jc.revalidate();
+                }
+                c.repaint();
+            }
+            painted.clear();
+        }
+    }
+
+    private static void expunge() {
+        java.lang.ref.Reference<? extends ImageIcon> ref;
+        while ((ref = CLEARED.poll()) != null) {
+            Entry entry = (Entry) ref;
+            if (CACHE.remove(entry.key, entry)) {
+                BYTES.addAndGet(-entry.bytes);
+            }
+        }
+    }
+}
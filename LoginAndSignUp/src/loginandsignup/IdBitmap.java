@@ -0,0 +1,435 @@
+package loginandsignup;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative int ids, laid out like a Roaring bitmap:
+ * ids are bucketed by their high 16 bits and each bucket keeps the low 16
+ * bits either as a sorted array (up to 4096 ids) or as a 65536-bit bitmap.
+ * {@link #and} and {@link #or} combine bucket by bucket without looking at
+ * anything but ids. Not thread-safe.
+ */
+final class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int buckets;
+
+    void add(int id) {
+        char high = (char) (id >>> 16);
+        int i = Arrays.binarySearch(keys, 0, buckets, high);
+        if (i >= 0) {
+            containers[i] = containers[i].add((char) id);
+            return;
+        }
+        i = -i - 1;
+        if (buckets == keys.length) {
+            keys = Arrays.copyOf(keys, buckets * 2);
+            containers = Arrays.copyOf(containers, buckets * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, buckets - i);
+        System.arraycopy(containers, i, containers, i + 1, buckets - i);
+        keys[i] = high;
+        containers[i] = new ArrayContainer().add((char) id);
+        buckets++;
+    }
+
+    void remove(int id) {
+        int i = Arrays.binarySearch(keys, 0, buckets, (char) (id >>> 16));
+        if (i < 0) {
+            return;
+        }
+        Container container = containers[i].remove((char) id);
+        if (container.cardinality() > 0) {
+            containers[i] = container;
+            return;
+        }
+        System.arraycopy(keys, i + 1, keys, i, buckets - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, buckets - i - 1);
+        containers[--buckets] = null;
+    }
+
+    boolean contains(int id) {
+        int i = Arrays.binarySearch(keys, 0, buckets, (char) (id >>> 16));
+        return i >= 0 && containers[i].contains((char) id);
+    }
+
+    int cardinality() {
+        int n = 0;
+        for (int i = 0; i < buckets; i++) {
+            n += containers[i].cardinality();
+        }
+        return n;
+    }
+
+    boolean isEmpty() {
+        return buckets == 0;
+    }
+
+    /** Ids in both bitmaps, as a new bitmap. */
+    IdBitmap and(IdBitmap other) {
+        IdBitmap out = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < buckets && j < other.buckets) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container both = containers[i].and(other.containers[j]);
+                if (both.cardinality() > 0) {
+                    out.append(keys[i], both);
+                }
+                i++;
+                j++;
+            }
+        }
+        return out;
+    }
+
+    /** The number of ids in both bitmaps, without building the intersection. */
+    int andCardinality(IdBitmap other) {
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < buckets && j < other.buckets) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                n += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return n;
+    }
+
+    /** Ids in either bitmap, as a new bitmap. */
+    IdBitmap or(IdBitmap other) {
+        IdBitmap out = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < buckets || j < other.buckets) {
+            if (j == other.buckets || i < buckets && keys[i] < other.keys[j]) {
+                out.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == buckets || keys[i] > other.keys[j]) {
+                out.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                out.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return out;
+    }
+
+    /** Calls {@code action} for every id in ascending order. */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < buckets; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    private void append(char key, Container container) {
+        if (buckets == keys.length) {
+            keys = Arrays.copyOf(keys, buckets * 2);
+            containers = Arrays.copyOf(containers, buckets * 2);
+        }
+        keys[buckets] = key;
+        containers[buckets++] = container;
+    }
+
+    /** The low 16 bits of the ids in one bucket. Mutators return the container to keep, which may be a new one. */
+    private abstract static class Container {
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract boolean contains(char low);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer action);
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        Container add(char low) {
+            int i = Arrays.binarySearch(values, 0, size, low);
+            if (i >= 0) {
+                return this;
+            }
+            if (size == ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            i = -i - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, size * 2)));
+            }
+            System.arraycopy(values, i, values, i + 1, size - i);
+            values[i] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int i = Arrays.binarySearch(values, 0, size, low);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, size - i - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] out = new char[size];
+            int n = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < size && j < array.size) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        out[n++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        out[n++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(out, n);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int n = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < size && j < array.size) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        n++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        n++;
+                    }
+                }
+            }
+            return n;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer array)) {
+                return other.or(this);
+            }
+            char[] out = new char[size + array.size];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < array.size) {
+                if (j == array.size || i < size && values[i] < array.values[j]) {
+                    out[n++] = values[i++];
+                } else if (i == size || values[i] > array.values[j]) {
+                    out[n++] = array.values[j++];
+                } else {
+                    out[n++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayContainer union = new ArrayContainer(out, n);
+            return n > ARRAY_MAX ? union.toBitmap() : union;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, size), size);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[1024], 0);
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before | 1L << low;
+            if (before != words[low >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            long before = words[low >>> 6];
+            words[low >>> 6] = before & ~(1L << low);
+            if (before != words[low >>> 6]) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & 1L << low) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof BitmapContainer bitmap)) {
+                return other.and(this);
+            }
+            long[] out = new long[words.length];
+            int n = 0;
+            for (int i = 0; i < out.length; i++) {
+                out[i] = words[i] & bitmap.words[i];
+                n += Long.bitCount(out[i]);
+            }
+            BitmapContainer both = new BitmapContainer(out, n);
+            return n <= ARRAY_MAX ? both.toArray() : both;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (!(other instanceof BitmapContainer bitmap)) {
+                return other.andCardinality(this);
+            }
+            int n = 0;
+            for (int i = 0; i < words.length; i++) {
+                n += Long.bitCount(words[i] & bitmap.words[i]);
+            }
+            return n;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer out = (BitmapContainer) copy();
+            if (other instanceof BitmapContainer bitmap) {
+                int n = 0;
+                for (int i = 0; i < out.words.length; i++) {
+                    out.words[i] |= bitmap.words[i];
+                    n += Long.bitCount(out.words[i]);
+                }
+                out.cardinality = n;
+            } else {
+                other.forEach(0, id -> out.add((char) id));
+            }
+            return out;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | i << 6 | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int[] n = {0};
+            forEach(0, low -> values[n[0]++] = (char) low);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package loginandsignup;
+
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Position in an id-ordered feed whose ids are assigned at insert but become
+ * visible at commit, so a lower id can show up after a higher one. Ids
+ * skipped over are remembered for {@code GAP_MILLIS} and the next read
+ * starts below the oldest of them.
+ */
+final class IdWatermark {
+
+    private static final long GAP_MILLIS = 10_000;
+    static final int MAX_GAPS = 1000;
+
+    private long high;
+    private final NavigableMap<Long, Long> gaps = new TreeMap<>();
+
+    IdWatermark(long high) {
+        this.high = high;
+    }
+
+    /**
+     * Starts at {@code high} after a read that returned the ids in
+     * {@code seen}. Ids below it that the read did not return may belong to
+     * writes still committing, so the last {@code MAX_GAPS} of them are
+     * gaps for the grace period like any others.
+     */
+    IdWatermark(long high, Collection<Long> seen) {
+        this.high = high;
+        long now = System.currentTimeMillis();
+        for (long missing = Math.max(1, high - MAX_GAPS + 1); missing < high; missing++) {
+            gaps.put(missing, now);
+        }
+        gaps.keySet().removeAll(seen);
+    }
+
+    synchronized long high() {
+        return high;
+    }
+
+    /** Lower bound (exclusive) for the next read. */
+    synchronized long since() {
+        return gaps.isEmpty() ? high : Math.min(high, gaps.firstKey() - 1);
+    }
+
+    /** Records the id; returns false if it was already applied. */
+    synchronized boolean accept(long id) {
+        if (id <= high) {
+            return gaps.remove(id) != null;
+        }
+        long now = System.currentTimeMillis();
+        for (long missing = Math.max(high + 1, id - MAX_GAPS); missing < id; missing++) {
+            gaps.put(missing, now);
+        }
+        high = id;
+        return true;
+    }
+
+    /** Gives up on skipped ids older than the grace period (rolled back or never coming). */
+    synchronized void expire() {
+        long expired = System.currentTimeMillis() - GAP_MILLIS;
+        gaps.values().removeIf(firstSeen -> firstSeen < expired);
+    }
+}
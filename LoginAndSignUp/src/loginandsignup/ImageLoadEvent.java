@@ -0,0 +1,28 @@
+package loginandsignup;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Decode of a bundled image resource. */
+@Name("lsf.ImageLoad")
+@Label("Image Load")
+@Category({"Local Service Finder", "Swing"})
+@StackTrace(true)
+public class ImageLoadEvent extends jdk.jfr.Event {
+
+    @Label("Resource")
+    String path;
+
+    @Label("Width")
+    int width;
+
+    @Label("Height")
+    int height;
+
+    @Label("Decoded Size")
+    @DataAmount
+    long decodedBytes;
+}
@@ -0,0 +1,282 @@
+package loginandsignup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dynamic proxies around the JDBC objects handed out by {@link Database}.
+ * Executions are timed per statement, result sets count the rows read, and
+ * failures are counted before the exception is rethrown unchanged. Every
+ * proxy is registered with {@link LeakTracker} until it (or its parent) is
+ * closed.
+ */
+final class InstrumentedConnection {
+
+    private InstrumentedConnection() {
+    }
+
+    static Connection wrap(Connection target) {
+        Metrics.CONNECTIONS_OPENED.increment();
+        return new ConnectionHandler(target).proxy(Connection.class);
+    }
+
+    static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    static void commit(QueryEvent event, QueryStats stats, long rows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.sql = stats.sql();
+            event.rows = rows;
+            event.commit();
+        }
+    }
+
+    /**
+     * Leak bookkeeping shared by the three proxy kinds. Closing a parent
+     * releases its children; a closed child leaves its parent, so a
+     * long-lived connection holds only what is still open.
+     */
+    private abstract static class Tracked implements InvocationHandler {
+
+        private final LeakTracker.Handle handle;
+        private final Set<Tracked> children = ConcurrentHashMap.newKeySet();
+        private volatile Tracked parent;
+        private volatile boolean released;
+
+        Tracked(String kind) {
+            handle = LeakTracker.track(kind);
+        }
+
+        <T extends Tracked> T adopt(T child) {
+            ((Tracked) child).parent = this;
+            children.add(child);
+            return child;
+        }
+
+        <T> T proxy(Class<T> type) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, this));
+        }
+
+        /** Returns false if this object had already been released. */
+        boolean release() {
+            if (released) {
+                return false;
+            }
+            released = true;
+            handle.release();
+            Tracked from = parent;
+            if (from != null) {
+                from.children.remove(this);
+            }
+            releaseChildren();
+            return true;
+        }
+
+        void releaseChildren() {
+            for (Tracked child : children) {
+                child.release();
+            }
+            children.clear();
+        }
+    }
+
+    private static final class ConnectionHandler extends Tracked {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            super("Connection");
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = call(target, method, args);
+            if (method.getName().equals("close") && release()) {
+                Metrics.CONNECTIONS_CLOSED.increment();
+            }
+            if (result instanceof PreparedStatement pst && method.getName().startsWith("prepare")) {
+                return adopt(new StatementHandler(pst, (String) args[0])).proxy(PreparedStatement.class);
+            }
+            if (result instanceof Statement st && method.getName().equals("createStatement")) {
+                return adopt(new StatementHandler(st, null)).proxy(Statement.class);
+            }
+            return result;
+        }
+    }
+
+    /** Stats for the generated keys of the statement whose stats are {@code of}. */
+    private record Keys(QueryStats of, QueryStats stats) {
+    }
+
+    private static final class StatementHandler extends Tracked {
+
+        private final Statement target;
+        /** Stats of the prepared SQL, normalized once rather than on every execute; null for a plain Statement. */
+        private final QueryStats preparedStats;
+        /** Stats of the last execute, for a result set fetched after it. */
+        private volatile QueryStats lastStats;
+        private volatile Keys keys;
+        /** First SQL added to a plain Statement's batch, which names the batch in the stats. */
+        private volatile String batchSql;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            super(preparedSql != null ? "PreparedStatement" : "Statement");
+            this.target = target;
+            this.preparedStats = preparedSql == null ? null : QueryStats.forSql(preparedSql);
+            this.lastStats = preparedStats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                return passThrough(method, args);
+            }
+            releaseChildren(); // re-executing closes the previous result set
+            QueryStats stats = statsFor(name, args);
+            if (stats == null) {
+                return call(target, method, args); // an empty batch
+            }
+            lastStats = stats;
+            QueryEvent event = new QueryEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = call(target, method, args);
+            } catch (SQLException e) {
+                stats.recordError();
+                event.failed = true;
+                commit(event, stats, 0);
+                throw e;
+            } finally {
+                stats.recordExecution(System.nanoTime() - start);
+            }
+            if (result instanceof ResultSet rs) {
+                return adopt(new RowCounter(rs, stats, event)).proxy(ResultSet.class);
+            }
+            long updated = 0;
+            if (result instanceof Integer count) {
+                updated = count;
+            } else if (result instanceof Long count) {
+                updated = count;
+            }
+            stats.recordRows(updated);
+            commit(event, stats, updated);
+            return result;
+        }
+
+        /**
+         * Statement.execute*(String) carries its SQL per call and a plain
+         * batch is named by its first SQL; everything else uses the prepared
+         * SQL. Null for a plain Statement's empty batch.
+         */
+        private QueryStats statsFor(String name, Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String text) {
+                return QueryStats.forSql(text);
+            }
+            if (preparedStats != null) {
+                return preparedStats;
+            }
+            String batch = batchSql;
+            if (name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")) {
+                batchSql = null; // executing a batch clears it
+            }
+            return batch == null ? null : QueryStats.forSql(batch);
+        }
+
+        /** Everything but execute: tracks the batch and wraps result sets fetched after an execute. */
+        private Object passThrough(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args.length == 1 && args[0] instanceof String sql
+                    && batchSql == null) {
+                batchSql = sql;
+            } else if (name.equals("clearBatch")) {
+                batchSql = null;
+            }
+            Object result = call(target, method, args);
+            if (name.equals("close")) {
+                release();
+            }
+            if (result instanceof ResultSet rs) {
+                QueryStats stats = name.equals("getGeneratedKeys") ? keysStats() : lastStats;
+                if (stats != null) {
+                    QueryEvent event = new QueryEvent();
+                    event.begin();
+                    return adopt(new RowCounter(rs, stats, event)).proxy(ResultSet.class);
+                }
+            }
+            return result;
+        }
+
+        /** Generated keys are counted apart from the rows the statement changed. */
+        private QueryStats keysStats() {
+            QueryStats stats = lastStats;
+            if (stats == null) {
+                return null;
+            }
+            Keys known = keys;
+            if (known == null || known.of() != stats) {
+                known = keys = new Keys(stats, QueryStats.forSql("generated keys of " + stats.sql()));
+            }
+            return known.stats();
+        }
+    }
+
+    private static final class RowCounter extends Tracked {
+
+        private final ResultSet target;
+        private final QueryStats stats;
+        private final QueryEvent event;
+        private long rows;
+        private boolean reported;
+
+        private RowCounter(ResultSet target, QueryStats stats, QueryEvent event) {
+            super("ResultSet");
+            this.target = target;
+            this.stats = stats;
+            this.event = event;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object result = call(target, method, args);
+            if (name.equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else {
+                    report();
+                }
+            } else if (name.equals("close")) {
+                report();
+                release();
+            }
+            return result;
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                stats.recordRows(rows);
+                commit(event, stats, rows);
+            }
+        }
+    }
+}
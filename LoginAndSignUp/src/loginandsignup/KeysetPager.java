@@ -0,0 +1,136 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fixed-size pages of one {@link GridTable}, ordered by its key. A page is
+ * read with {@code key > ?} from the last key of the page before it, so it
+ * costs the same at row ten as at row ten million, and only the visible
+ * columns are selected. Filters are {@code LIKE} prefixes bound as
+ * parameters. Statements come from {@link Sql}, whose text cache makes
+ * rebuilding them for every page a lookup.
+ * <p>
+ * The last key of every page read is remembered as an anchor. Jumping to a
+ * page with no anchor yet skips forward from the nearest one below it with
+ * a key-only query, so the scrollbar can be dragged anywhere.
+ * Not thread-safe; {@link AdminGrid} calls it from one loader thread.
+ */
+final class KeysetPager {
+
+    static final int PAGE_SIZE = 200;
+
+    private final GridTable table;
+    private final List<String> columns;
+    private final Map<String, String> filters;
+    /** Page index to the key just before that page. */
+    private final TreeMap<Integer, Long> anchors = new TreeMap<>();
+
+    KeysetPager(GridTable table, List<String> columns, Map<String, String> filters) {
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.filters = new LinkedHashMap<>(filters);
+        for (String column : this.columns) {
+            table.column(column);
+        }
+        this.filters.keySet().forEach(table::column);
+        anchors.put(0, Long.MIN_VALUE);
+    }
+
+    List<String> columns() {
+        return columns;
+    }
+
+    /** Rows matching the filters. */
+    int count(Connection conn) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(filtered(Sql.count(table.table())).sql())) {
+            bind(pst, Long.MIN_VALUE);
+            try (ResultSet rs = pst.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /** The rows of page {@code index}, each holding the visible columns in order. */
+    List<Object[]> page(Connection conn, int index) throws SQLException {
+        Long after = anchor(conn, index);
+        List<Object[]> rows = new ArrayList<>(PAGE_SIZE);
+        if (after == null) {
+            return rows;
+        }
+        List<String> projection = new ArrayList<>(columns.size() + 1);
+        projection.add(table.key());
+        projection.addAll(columns);
+        Sql.Select select = filtered(Sql.select(table.table(), projection)).orderBy(table.key()).limit(PAGE_SIZE);
+        long last = after;
+        try (PreparedStatement pst = conn.prepareStatement(select.sql())) {
+            bind(pst, after);
+            try (ResultSet rs = pst.executeQuery()) {
+                while (rs.next()) {
+                    last = rs.getLong(1);
+                    Object[] row = new Object[columns.size()];
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] = rs.getObject(i + 2);
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        if (rows.size() == PAGE_SIZE) {
+            anchors.put(index + 1, last);
+        }
+        return rows;
+    }
+
+    /** The key before page {@code index}, skipping forward from the nearest known anchor; null past the end. */
+    private Long anchor(Connection conn, int index) throws SQLException {
+        Map.Entry<Integer, Long> from = anchors.floorEntry(index);
+        if (from.getKey() == index) {
+            return from.getValue();
+        }
+        Sql.Select select = filtered(Sql.select(table.table(), table.key()))
+                .orderBy(table.key()).limit(1).offsetParameter();
+        try (PreparedStatement pst = conn.prepareStatement(select.sql())) {
+            int next = bind(pst, from.getValue());
+            pst.setLong(next, (long) (index - from.getKey()) * PAGE_SIZE - 1);
+            try (ResultSet rs = pst.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long key = rs.getLong(1);
+                anchors.put(index, key);
+                return key;
+            }
+        }
+    }
+
+    /** {@code select} restricted to rows after a key, live rows and the filters, bound by {@link #bind}. */
+    private Sql.Select filtered(Sql.Select select) {
+        select = select.where(table.key(), Sql.Op.GT);
+        if (table.deleted() != null) {
+            select = select.where(table.deleted(), Sql.Op.ZERO);
+        }
+        for (String column : filters.keySet()) {
+            select = select.where(column, Sql.Op.LIKE);
+        }
+        return select;
+    }
+
+    /** Binds the key bound and the filters; returns the next parameter index. */
+    private int bind(PreparedStatement pst, long after) throws SQLException {
+        int i = 1;
+        pst.setLong(i++, after);
+        for (String value : filters.values()) {
+            pst.setString(i++, value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+        return i;
+    }
+}
@@ -0,0 +1,190 @@
+package loginandsignup;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.WindowEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Remembers where every JDBC connection, statement and result set handed out
+ * by {@link Database} was created. Anything still open after
+ * {@code -Dlsf.leaks.deadline.ms} (default 30 s), or still open when the
+ * frame that created it is disposed, is logged with its creation stack.
+ * Capturing a stack costs more than the query on hot paths, so only one
+ * object in {@code -Dlsf.leaks.sample} (default 16) records one; leaks
+ * repeat, and 1 records every stack when hunting one down. Every object
+ * records the innermost app window on the stack that created it, which is
+ * a short walk, so the dispose report finds unsampled objects too.
+ */
+public final class LeakTracker {
+
+    private static final Logger LOG = Logger.getLogger(LeakTracker.class.getName());
+
+    static final long DEADLINE_MILLIS = Long.getLong("lsf.leaks.deadline.ms", 30_000);
+    static final int SAMPLE = Math.max(1, Integer.getInteger("lsf.leaks.sample", 16));
+
+    public static final LongAdder LEAKS = Metrics.counter("lsf_jdbc_leaks_total", "JDBC resources reported as leaked");
+
+    private static final Map<Long, Handle> OPEN = new ConcurrentHashMap<>();
+    private static final AtomicLong IDS = new AtomicLong();
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static boolean installed;
+
+    static {
+        Metrics.gauge("lsf_jdbc_open_resources", "Tracked JDBC objects not yet closed", () -> OPEN.size());
+    }
+
+    private LeakTracker() {
+    }
+
+    /** Starts the deadline sweeper and the dispose hook. */
+    public static synchronized void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+        Thread sweeper = new Thread(LeakTracker::sweep, "lsf-leak-sweeper");
+        sweeper.setDaemon(true);
+        sweeper.start();
+        Toolkit.getDefaultToolkit().addAWTEventListener(e -> {
+            if (e.getID() == WindowEvent.WINDOW_CLOSED) {
+                reportCreatedBy(e.getSource().getClass());
+            }
+        }, AWTEvent.WINDOW_EVENT_MASK);
+    }
+
+    static Handle track(String kind) {
+        Handle handle = new Handle(IDS.incrementAndGet(), kind);
+        OPEN.put(handle.id, handle);
+        return handle;
+    }
+
+    /** Snapshot of resources that have not been closed yet. */
+    public static List<Handle> open() {
+        return new ArrayList<>(OPEN.values());
+    }
+
+    /**
+     * Logs every open resource created by the given window class or one of
+     * its nested classes, or, for sampled ones, whose stack passes through it.
+     */
+    public static int reportCreatedBy(Class<?> owner) {
+        int found = 0;
+        for (Handle handle : OPEN.values()) {
+            if (handle.createdBy(owner) && handle.markReported()) {
+                found++;
+                report(handle, "still open after " + owner.getSimpleName() + " was disposed");
+            }
+        }
+        return found;
+    }
+
+    /** Logs every open resource older than the deadline. */
+    public static int reportOverdue() {
+        long now = System.currentTimeMillis();
+        int found = 0;
+        for (Handle handle : OPEN.values()) {
+            if (now - handle.createdAt >= DEADLINE_MILLIS && handle.markReported()) {
+                found++;
+                report(handle, "open for " + (now - handle.createdAt) + " ms");
+            }
+        }
+        return found;
+    }
+
+    private static void sweep() {
+        long period = Math.max(1000, DEADLINE_MILLIS / 4);
+        while (true) {
+            try {
+                Thread.sleep(period);
+            } catch (InterruptedException e) {
+                return;
+            }
+            reportOverdue();
+        }
+    }
+
+    /** The innermost app window on the calling stack; nested classes count as their window. Null if none. */
+    private static Class<?> windowOnStack() {
+        return WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(c -> !c.getName().startsWith("java"))
+                .map(c -> Window.class.isAssignableFrom(c) ? c : c.getNestHost())
+                .filter(Window.class::isAssignableFrom)
+                .findFirst()
+                .orElse(null));
+    }
+
+    private static void report(Handle handle, String why) {
+        LEAKS.increment();
+        String where = "JDBC " + handle.kind + " leak: " + why + ", created on " + handle.thread
+                + (handle.owner == null ? "" : " by " + handle.owner.getName());
+        if (handle.origin == null) {
+            LOG.warning(where + " (stack not sampled, run with -Dlsf.leaks.sample=1)");
+        } else {
+            LOG.log(Level.WARNING, where + " at", handle.origin);
+        }
+    }
+
+    /** One tracked JDBC object. */
+    public static final class Handle {
+
+        final long id;
+        final String kind;
+        final long createdAt = System.currentTimeMillis();
+        final String thread = Thread.currentThread().getName();
+        /** The window class that created this object, or null if none was on the stack. */
+        final Class<?> owner = windowOnStack();
+        /** Null unless this object was sampled. */
+        final Throwable origin;
+        private volatile boolean reported;
+
+        private Handle(long id, String kind) {
+            this.id = id;
+            this.kind = kind;
+            origin = id % SAMPLE == 0 ? new Throwable("created here") : null;
+        }
+
+        void release() {
+            OPEN.remove(id);
+        }
+
+        boolean createdBy(Class<?> window) {
+            if (window.equals(owner)) {
+                return true;
+            }
+            String className = window.getName();
+            for (StackTraceElement frame : origin()) {
+                if (frame.getClassName().equals(className) || frame.getClassName().startsWith(className + "$")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean markReported() {
+            if (reported) {
+                return false;
+            }
+            reported = true;
+            return true;
+        }
+
+        public String kind() {
+            return kind;
+        }
+
+        /** The creation stack, or an empty one if this object was not sampled. */
+        public StackTraceElement[] origin() {
+            return origin == null ? new StackTraceElement[0] : origin.getStackTrace();
+        }
+    }
+}
@@ -1,17 +1,17 @@
 
 package loginandsignup;
 import javax.swing.JOptionPane;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public class Login extends javax.swing.JFrame {
 
+    private final AuthService auth = AuthService.configured();
 
     public Login() {
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
         initComponents();
+        opening.componentsReady();
+        opening.finish();
     }
 
 
@@ -34,7 +34,7 @@ public class Login extends javax.swing.JFrame {
         jButton1 = new javax.swing.JButton();
         jButton3 = new javax.swing.JButton();
         jButton2 = new javax.swing.JButton();
-        jLabel9 = new javax.swing.JLabel();
+        background = new BackgroundImage("/loginandsignup/QD-OLED-3840x2160_MAG.jpg");
 
         setDefaultCloseOperation(javax.swing.WindowConstants.EXIT_ON_CLOSE);
         setTitle("LOGIN");
@@ -59,7 +59,7 @@ public class Login extends javax.swing.JFrame {
         jLabel8.setForeground(new java.awt.Color(255, 255, 255));
         jLabel8.setText("Copyrights © LSF all rights reserved");
 
-        jLabel4.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/fr.png"))); // NOI18N
+        jLabel4.setIcon(Icons.load("/loginandsignup/fr.png"));
         jLabel4.setText("jLabel4");
 
         javax.swing.GroupLayout RightLayout = new javax.swing.GroupLayout(Right);
@@ -132,14 +132,14 @@ public class Login extends javax.swing.JFrame {
             }
         });
 
-        jButton3.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/exit button.jpg"))); // NOI18N
+        jButton3.setIcon(Icons.load("/loginandsignup/exit button.jpg"));
         jButton3.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton3ActionPerformed(evt);
             }
         });
 
-        jButton2.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/back.png"))); // NOI18N
+        jButton2.setIcon(Icons.load("/loginandsignup/back.png"));
         jButton2.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton2ActionPerformed(evt);
@@ -198,10 +198,8 @@ public class Login extends javax.swing.JFrame {
         jPanel1.add(Left);
         Left.setBounds(770, 150, 400, 500);
 
-        jLabel9.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/QD-OLED-3840x2160_MAG.jpg"))); // NOI18N
-        jLabel9.setText("jLabel9");
-        jPanel1.add(jLabel9);
-        jLabel9.setBounds(-1250, 0, 3490, 1110);
+        jPanel1.add(background);
+        background.setBounds(0, 0, 1920, 1080);
 
         javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
         getContentPane().setLayout(layout);
@@ -234,55 +232,24 @@ public class Login extends javax.swing.JFrame {
             String emailText = email.getText();
     String passwordText = new String(password.getPassword());
 
-    if (emailText.isEmpty() || passwordText.isEmpty()) {
-        JOptionPane.showMessageDialog(this, "Please fill in all fields.");
-        return;
-    }
-
+    boolean found;
     try {
-        Connection conn = DriverManager.getConnection("jdbc:mysql://localhost:3306/ServiceApp", "root", "student");
-        String sql1 = "SELECT * FROM UserSignUp WHERE email = ? AND password = ?";
-        PreparedStatement pst1 = conn.prepareStatement(sql1);
-        pst1.setString(1, emailText);
-        pst1.setString(2, passwordText);
-               
-        String sql2 = "SELECT * FROM ServiceProvidersSignUp WHERE email = ? AND password = ?";
-        PreparedStatement pst2 = conn.prepareStatement(sql2);
-        pst2.setString(1, emailText);
-        pst2.setString(2, passwordText);
-        
-        ResultSet ps = pst2.executeQuery();
-        
-        ResultSet rs = pst1.executeQuery();
-        if (rs.next()) {
-            JOptionPane.showMessageDialog(this, "Login successful!");
-            // Redirect to the next screen
-            // For example: new Home().setVisible(true);
-            this.dispose(); // Close login frame
-        UserInterface UserInterfaceFrame = new UserInterface();
-        UserInterfaceFrame.setVisible(true);
-        UserInterfaceFrame.pack();
-        UserInterfaceFrame.setLocationRelativeTo(null); 
-        }/** else {
-            JOptionPane.showMessageDialog(this, "Invalid email or password.");
-        }
-        **/
-
-        else if (ps.next()) {
-            JOptionPane.showMessageDialog(this, "Login successful!");
-            // Redirect to the next screen
-            // For example: new Home().setVisible(true);
-            this.dispose(); // Close login frame
-        UserInterface UserInterfaceFrame = new UserInterface();
-        UserInterfaceFrame.setVisible(true);
-        UserInterfaceFrame.pack();
-        UserInterfaceFrame.setLocationRelativeTo(null); 
-        } else {
-            JOptionPane.showMessageDialog(this, "Invalid email or password.");
-        }
+        found = auth.login(emailText, passwordText);
+    } catch (ValidationException e) {
+        JOptionPane.showMessageDialog(this, e.getMessage());
+        return;
     } catch (SQLException e) {
         e.printStackTrace();
         JOptionPane.showMessageDialog(this, "Error during login: " + e.getMessage());
+        return;
+    }
+
+    if (found) {
+        JOptionPane.showMessageDialog(this, "Login successful!");
+        Navigator.show(UserInterface.class, UserInterface::new);
+        Navigator.close(this); // the next login starts from empty fields
+    } else {
+        JOptionPane.showMessageDialog(this, "Invalid email or password.");
     }
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton1ActionPerformed
@@ -300,15 +267,13 @@ public class Login extends javax.swing.JFrame {
     }//GEN-LAST:event_jButton3ActionPerformed
 
     private void jButton2ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton2ActionPerformed
-        UserInterfaceee UserInterfaceeeFrame = new UserInterfaceee();
-        UserInterfaceeeFrame.setVisible(true);
-        UserInterfaceeeFrame.pack();
-        UserInterfaceeeFrame.setLocationRelativeTo(null);
+        Navigator.show(UserInterfaceee.class, UserInterfaceee::new);
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton2ActionPerformed
 
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private loginandsignup.BackgroundImage background;
     private javax.swing.JPanel Left;
     private javax.swing.JPanel Right;
     private javax.swing.JTextField email;
@@ -322,7 +287,6 @@ public class Login extends javax.swing.JFrame {
     private javax.swing.JLabel jLabel5;
     private javax.swing.JLabel jLabel7;
     private javax.swing.JLabel jLabel8;
-    private javax.swing.JLabel jLabel9;
     private javax.swing.JPanel jPanel1;
     private javax.swing.JPasswordField password;
     // End of variables declaration//GEN-END:variables
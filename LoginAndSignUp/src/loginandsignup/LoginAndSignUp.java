@@ -6,10 +6,15 @@ public class LoginAndSignUp {
 
     public static void main(String[] args) {
 
-        UserInterfaceee UserInterfaceeeFrame = new UserInterfaceee();
-        UserInterfaceeeFrame.setVisible(true);
-        UserInterfaceeeFrame.pack();
-        UserInterfaceeeFrame.setLocationRelativeTo(null);
+        DiagnosticsFrame.installShortcut();
+        CategoryRegistry.preload();
+        Metrics.watchWindows();
+        EdtWatchdog.install();
+        LeakTracker.install();
+        MetricsServer.startIfConfigured();
+        ChangeLogPoller.start();
+        CatalogServer.startIfConfigured();
+        java.awt.EventQueue.invokeLater(() -> Navigator.show(UserInterfaceee.class, UserInterfaceee::new));
     }
     
 }
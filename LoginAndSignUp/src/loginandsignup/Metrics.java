@@ -0,0 +1,149 @@
+package loginandsignup;
+
+import java.awt.AWTEvent;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.WindowEvent;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Process-wide counters and gauges rendered in Prometheus text format by
+ * {@link MetricsServer}. Counters are {@link LongAdder}s so incrementing them
+ * from the EDT or JDBC code never blocks.
+ */
+public final class Metrics {
+
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentSkipListMap<>();
+    private static final Map<String, DoubleSupplier> GAUGES = new ConcurrentSkipListMap<>();
+    private static final Map<String, String> HELP = new ConcurrentHashMap<>();
+
+    public static final LongAdder LOGIN_SUCCESS = counter("lsf_logins_total{result=\"success\"}", "Login attempts");
+    public static final LongAdder LOGIN_FAILURE = counter("lsf_logins_total{result=\"failure\"}", "Login attempts");
+    public static final LongAdder USER_SIGNUPS = counter("lsf_signups_total{kind=\"user\"}", "Completed sign-ups");
+    public static final LongAdder PROVIDER_SIGNUPS = counter("lsf_signups_total{kind=\"provider\"}", "Completed sign-ups");
+    public static final LongAdder USER_PROFILES = counter("lsf_profiles_total{kind=\"user\"}", "Submitted profile forms");
+    public static final LongAdder PROVIDER_PROFILES = counter("lsf_profiles_total{kind=\"provider\"}", "Submitted profile forms");
+    public static final LongAdder CONNECTIONS_OPENED = counter("lsf_db_connections_opened_total", "JDBC connections opened");
+    public static final LongAdder CONNECTIONS_CLOSED = counter("lsf_db_connections_closed_total", "JDBC connections closed");
+    public static final LongAdder WINDOWS_OPENED = counter("lsf_windows_opened_total", "Top-level windows opened");
+    public static final LongAdder WINDOWS_CLOSED = counter("lsf_windows_closed_total", "Top-level windows closed");
+
+    static {
+        gauge("lsf_db_connections_open", "JDBC connections currently open",
+                () -> CONNECTIONS_OPENED.sum() - CONNECTIONS_CLOSED.sum());
+        gauge("lsf_windows_live", "Displayable top-level windows", Metrics::liveWindows);
+        gauge("lsf_jvm_heap_used_bytes", "Heap in use", () -> heap().getUsed());
+        gauge("lsf_jvm_heap_committed_bytes", "Heap committed", () -> heap().getCommitted());
+        gauge("lsf_jvm_heap_max_bytes", "Heap limit", () -> heap().getMax());
+    }
+
+    private Metrics() {
+    }
+
+    public static LongAdder counter(String series, String help) {
+        HELP.putIfAbsent(baseName(series), help);
+        LongAdder adder = new LongAdder();
+        LongAdder existing = COUNTERS.putIfAbsent(series, adder);
+        return existing != null ? existing : adder;
+    }
+
+    public static void gauge(String series, String help, DoubleSupplier value) {
+        HELP.putIfAbsent(baseName(series), help);
+        GAUGES.put(series, value);
+    }
+
+    /** Counts window open/close events so frame churn shows up without touching every form. */
+    public static void watchWindows() {
+        Toolkit.getDefaultToolkit().addAWTEventListener(e -> {
+            if (e.getID() == WindowEvent.WINDOW_OPENED) {
+                WINDOWS_OPENED.increment();
+            } else if (e.getID() == WindowEvent.WINDOW_CLOSED) {
+                WINDOWS_CLOSED.increment();
+            }
+        }, AWTEvent.WINDOW_EVENT_MASK);
+    }
+
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        String lastBase = null;
+        for (Map.Entry<String, LongAdder> e : COUNTERS.entrySet()) {
+            lastBase = header(out, e.getKey(), "counter", lastBase);
+            out.append(e.getKey()).append(' ').append(e.getValue().sum()).append('\n');
+        }
+        lastBase = null;
+        for (Map.Entry<String, DoubleSupplier> e : GAUGES.entrySet()) {
+            lastBase = header(out, e.getKey(), "gauge", lastBase);
+            out.append(e.getKey()).append(' ').append(format(e.getValue().getAsDouble())).append('\n');
+        }
+        appendQueries(out);
+        return out.toString();
+    }
+
+    private static void appendQueries(StringBuilder out) {
+        out.append("# HELP lsf_query_seconds JDBC statement latency\n");
+        out.append("# TYPE lsf_query_seconds summary\n");
+        for (QueryStats stats : QueryStats.all()) {
+            LatencyHistogram h = stats.latency();
+            String label = "sql=\"" + escape(stats.sql()) + "\"";
+            for (double q : new double[]{0.5, 0.95, 0.99}) {
+                out.append("lsf_query_seconds{").append(label).append(",quantile=\"").append(q).append("\"} ")
+                        .append(format(h.percentileMicros(q * 100) / 1e6)).append('\n');
+            }
+            out.append("lsf_query_seconds_sum{").append(label).append("} ").append(format(h.sumMicros() / 1e6)).append('\n');
+            out.append("lsf_query_seconds_count{").append(label).append("} ").append(h.count()).append('\n');
+        }
+        out.append("# TYPE lsf_query_rows_total counter\n");
+        for (QueryStats stats : QueryStats.all()) {
+            out.append("lsf_query_rows_total{sql=\"").append(escape(stats.sql())).append("\"} ").append(stats.rows()).append('\n');
+        }
+        out.append("# TYPE lsf_query_errors_total counter\n");
+        for (QueryStats stats : QueryStats.all()) {
+            out.append("lsf_query_errors_total{sql=\"").append(escape(stats.sql())).append("\"} ").append(stats.errors()).append('\n');
+        }
+    }
+
+    private static String header(StringBuilder out, String series, String type, String lastBase) {
+        String base = baseName(series);
+        if (!base.equals(lastBase)) {
+            out.append("# HELP ").append(base).append(' ').append(HELP.getOrDefault(base, base)).append('\n');
+            out.append("# TYPE ").append(base).append(' ').append(type).append('\n');
+        }
+        return base;
+    }
+
+    private static String baseName(String series) {
+        int brace = series.indexOf('{');
+        return brace < 0 ? series : series.substring(0, brace);
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value)) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static MemoryUsage heap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    }
+
+    private static double liveWindows() {
+        int live = 0;
+        for (Window w : Window.getWindows()) {
+            if (w.isDisplayable()) {
+                live++;
+            }
+        }
+        return live;
+    }
+}
@@ -0,0 +1,64 @@
+package loginandsignup;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Optional scrape endpoint serving {@link Metrics#scrape()} on
+ * {@code /metrics}. Off unless {@code -Dlsf.metrics.port} is set.
+ */
+public final class MetricsServer {
+
+    private static HttpServer server;
+
+    private MetricsServer() {
+    }
+
+    public static synchronized void startIfConfigured() {
+        String port = System.getProperty("lsf.metrics.port");
+        if (port == null || port.isBlank() || server != null) {
+            return;
+        }
+        String host = System.getProperty("lsf.metrics.host", "0.0.0.0");
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, Integer.parseInt(port.trim())), 0);
+            server.createContext("/metrics", MetricsServer::handle);
+            server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "lsf-metrics");
+                t.setDaemon(true);
+                return t;
+            }));
+            server.start();
+        } catch (IOException | NumberFormatException e) {
+            e.printStackTrace();
+            server = null;
+        }
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = Metrics.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
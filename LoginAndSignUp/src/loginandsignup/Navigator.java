@@ -0,0 +1,183 @@
+package loginandsignup;
+
+import java.awt.CardLayout;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Image;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.swing.AbstractButton;
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.Timer;
+
+/**
+ * Hosts every screen in one window. The screens are still the generated
+ * JFrame forms, but they are never shown themselves: the first time one is
+ * shown its content pane becomes a card of the main window's
+ * {@link CardLayout}. Screens are created once per key and reused until they
+ * are closed, or until more than {@code -Dlsf.screens.max} (default 8) are
+ * alive, when the least recently shown one is torn down. Tearing down
+ * disposes the form and checks it for leaked JDBC resources.
+ * <p>
+ * EDT only.
+ */
+public final class Navigator {
+
+    static final int MAX_SCREENS = Integer.getInteger("lsf.screens.max", 8);
+
+    public static final LongAdder CREATED = Metrics.counter("lsf_screens_created_total", "Screens constructed by the navigator");
+    public static final LongAdder DISPOSED = Metrics.counter("lsf_screens_disposed_total", "Screens torn down by the navigator");
+
+    /** Access-ordered, so iteration starts at the least recently shown screen. */
+    private static final Map<String, JFrame> SCREENS = new LinkedHashMap<>(16, 0.75f, true);
+    private static volatile int live;
+    private static volatile long imageBytes;
+    private static JFrame window;
+    private static JPanel cards;
+    private static String current;
+
+    static {
+        Metrics.gauge("lsf_screens_live", "Screens alive in the navigator", () -> live);
+        Metrics.gauge("lsf_screen_image_bytes", "Decoded image bytes referenced by live screens", () -> imageBytes);
+    }
+
+    private Navigator() {
+    }
+
+    /** Shows the screen of this type, creating it on first use. */
+    public static <T extends JFrame> T show(Class<T> type, Supplier<T> factory) {
+        return show(type.getSimpleName(), factory);
+    }
+
+    /** Shows the screen stored under {@code key}, creating it on first use. */
+    public static <T extends JFrame> T show(String key, Supplier<T> factory) {
+        @SuppressWarnings("unchecked")
+        T screen = (T) SCREENS.get(key);
+        if (screen == null) {
+            screen = factory.get();
+            CREATED.increment();
+            SCREENS.put(key, screen);
+            cards().add(screen.getContentPane(), key);
+        }
+        current = key;
+        ((CardLayout) cards.getLayout()).show(cards, key);
+        fit(screen);
+        evict();
+        measure();
+        return screen;
+    }
+
+    /** Tears the screen down; the next {@link #show} for it builds a new one. */
+    public static void close(JFrame screen) {
+        for (Iterator<Map.Entry<String, JFrame>> it = SCREENS.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, JFrame> e = it.next();
+            if (e.getValue() == screen) {
+                it.remove();
+                tearDown(e.getKey(), screen);
+                measure();
+                return;
+            }
+        }
+    }
+
+    /** Number of screens alive. */
+    public static int liveScreens() {
+        return live;
+    }
+
+    /** Decoded image bytes referenced by live screens, shared images counted once. */
+    public static long imageBytes() {
+        return imageBytes;
+    }
+
+    private static JPanel cards() {
+        if (window == null) {
+            window = new JFrame();
+            window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            cards = new JPanel(new CardLayout());
+            window.setContentPane(cards);
+            new Timer(5000, e -> measure()).start(); // icons that finish loading after navigation
+        }
+        return cards;
+    }
+
+    /** Sizes the window to the shown screen, as packing its own frame did. */
+    private static void fit(JFrame screen) {
+        Dimension size = screen.getContentPane().getPreferredSize();
+        window.setTitle(screen.getTitle());
+        boolean first = !window.isVisible();
+        if (first || !size.equals(cards.getPreferredSize())) {
+            cards.setPreferredSize(size);
+            window.pack();
+            window.setLocationRelativeTo(null);
+        }
+        if (first) {
+            window.setVisible(true);
+        }
+    }
+
+    private static void evict() {
+        Iterator<Map.Entry<String, JFrame>> it = SCREENS.entrySet().iterator();
+        while (SCREENS.size() > MAX_SCREENS && it.hasNext()) {
+            Map.Entry<String, JFrame> e = it.next();
+            if (!e.getKey().equals(current)) {
+                it.remove();
+                tearDown(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    private static void tearDown(String key, JFrame screen) {
+        cards.remove(screen.getContentPane());
+        screen.dispose();
+        DISPOSED.increment();
+        LeakTracker.reportCreatedBy(screen.getClass());
+        if (key.equals(current)) {
+            current = null;
+        }
+    }
+
+    private static void measure() {
+        Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Component> pending = new ArrayList<>();
+        for (JFrame screen : SCREENS.values()) {
+            pending.add(screen.getContentPane());
+        }
+        while (!pending.isEmpty()) {
+            Component c = pending.remove(pending.size() - 1);
+            if (c instanceof JLabel label) {
+                add(images, Icons.imageOf(label.getIcon()));
+            } else if (c instanceof AbstractButton button) {
+                add(images, Icons.imageOf(button.getIcon()));
+            } else if (c instanceof BackgroundImage background) {
+                add(images, background.rendered());
+            }
+            if (c instanceof Container container) {
+                Collections.addAll(pending, container.getComponents());
+            }
+        }
+        long bytes = 0;
+        for (Image image : images) {
+            bytes += Icons.bytesOf(image);
+        }
+        imageBytes = bytes;
+        live = SCREENS.size();
+    }
+
+    private static void add(Set<Image> images, Image image) {
+        if (image != null) {
+            images.add(image);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/** Profile details entered after sign-up ({@code UserForm}, {@code AdminForm}). */
+public final class ProfileService {
+
+    /** Returns false if the insert affected no rows. */
+    public boolean saveUserProfile(String address, String contactNumber, Date dob)
+            throws ValidationException, SQLException {
+        if (dob == null) {
+            throw new ValidationException("Please fill all fields");
+        }
+        Validation.requireFilled(address, contactNumber);
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.INSERT_USER_PROFILE)) {
+            pst.setString(1, address);
+            pst.setString(2, contactNumber);
+            pst.setString(3, formatDob(dob));
+            if (pst.executeUpdate() > 0) {
+                Metrics.USER_PROFILES.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Attaches the profile to the most recent provider sign-up, logs it to
+     * {@code CatalogChangeLog} in the same transaction and publishes the new
+     * listing on {@link CatalogEvents}. Returns false if the insert affected
+     * no rows.
+     */
+    public boolean saveProviderProfile(String address, String contactNumber, Date dob, String experience,
+            String serviceType) throws ValidationException, SQLException {
+        return saveProviderProfile(address, contactNumber, dob, experience,
+                serviceType == null ? List.of() : List.of(serviceType));
+    }
+
+    /**
+     * As above for a provider offering several categories; the first is the
+     * primary one stored in {@code service_type}.
+     */
+    public boolean saveProviderProfile(String address, String contactNumber, Date dob, String experience,
+            List<String> serviceTypes) throws ValidationException, SQLException {
+        if (dob == null || serviceTypes.isEmpty()) {
+            throw new ValidationException("Please fill all fields");
+        }
+        String serviceType = serviceTypes.get(0);
+        Validation.requireFilled(address, contactNumber, serviceType, experience);
+        Validation.requireContactNumber(contactNumber);
+        Validation.requireLetters(address);
+        List<CategoryRegistry.Category> categories = new ArrayList<>();
+        for (String type : serviceTypes) {
+            CategoryRegistry.Category category = CategoryRegistry.get().byServiceType(type);
+            if (category == null) {
+                throw new ValidationException("Unknown service type: " + type);
+            }
+            if (!categories.contains(category)) {
+                categories.add(category);
+            }
+        }
+
+        String dobString = formatDob(dob);
+        Provider saved;
+        try (Connection conn = Database.getConnection()) {
+            String name = null;
+            String email = null;
+            long id;
+            try (PreparedStatement pst = conn.prepareStatement(Queries.LATEST_PROVIDER_SIGNUP);
+                 ResultSet rs = pst.executeQuery()) {
+                if (rs.next()) {
+                    name = rs.getString("name");
+                    email = rs.getString("email");
+                }
+            }
+            if (email == null) {
+                throw new ValidationException("No email found in ServiceProvidersSignUp table.");
+            }
+            conn.setAutoCommit(false);
+            try (PreparedStatement pst = conn.prepareStatement(Queries.INSERT_PROVIDER_PROFILE,
+                    Statement.RETURN_GENERATED_KEYS)) {
+                pst.setString(1, email);
+                pst.setString(2, address);
+                pst.setString(3, contactNumber);
+                pst.setString(4, dobString);
+                pst.setString(5, serviceType);
+                pst.setString(6, experience);
+                pst.setInt(7, categories.get(0).id());
+                if (pst.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
+                id = ChangeLog.generatedKey(pst);
+                addCategories(conn, id, categories);
+                long change = ChangeLog.record(conn, ChangeLog.PROVIDER, id, email, serviceType,
+                        CatalogEvents.Kind.INSERTED);
+                setVersion(conn, id, ChangeLog.providerVersion(conn, change));
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            List<String> offered = new ArrayList<>();
+            for (CategoryRegistry.Category category : categories) {
+                offered.add(category.serviceType());
+            }
+            saved = new Provider(id, name, email, serviceType, address, contactNumber, experience, dobString, offered);
+        }
+        Metrics.PROVIDER_PROFILES.increment();
+        CatalogEvents.publish(new CatalogEvents.Change(CatalogEvents.Kind.INSERTED, saved));
+        return true;
+    }
+
+    /**
+     * Soft-deletes a provider listing: the row stays as a tombstone with a new
+     * version so replicas learn about the delete. Returns false if it was
+     * already gone.
+     */
+    public boolean removeProviderProfile(long id) throws SQLException {
+        Provider removed;
+        try (Connection conn = Database.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                removed = CatalogService.providerById(conn, id);
+                if (removed == null) {
+                    conn.rollback();
+                    return false;
+                }
+                long change = ChangeLog.record(conn, ChangeLog.PROVIDER, id, removed.email(), removed.serviceType(),
+                        CatalogEvents.Kind.DELETED);
+                long version = ChangeLog.providerVersion(conn, change);
+                int updated;
+                try (PreparedStatement pst = conn.prepareStatement(Queries.DELETE_PROVIDER)) {
+                    pst.setLong(1, version);
+                    pst.setLong(2, id);
+                    updated = pst.executeUpdate();
+                }
+                if (updated == 0) {
+                    conn.rollback();
+                    return false;
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+        CatalogEvents.publish(new CatalogEvents.Change(CatalogEvents.Kind.DELETED, removed));
+        return true;
+    }
+
+    private static void addCategories(Connection conn, long id, List<CategoryRegistry.Category> categories)
+            throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(Queries.INSERT_PROVIDER_CATEGORY)) {
+            for (CategoryRegistry.Category category : categories) {
+                pst.setLong(1, id);
+                pst.setInt(2, category.id());
+                pst.addBatch();
+            }
+            pst.executeBatch();
+        }
+    }
+
+    private static void setVersion(Connection conn, long id, long version) throws SQLException {
+        try (PreparedStatement pst = conn.prepareStatement(Queries.SET_PROVIDER_VERSION)) {
+            pst.setLong(1, version);
+            pst.setLong(2, id);
+            pst.executeUpdate();
+        }
+    }
+
+    static String formatDob(Date dob) {
+        return DateTimeFormatter.ISO_LOCAL_DATE.format(dob.toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
+    }
+}
@@ -0,0 +1,67 @@
+package loginandsignup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One row of the provider listing shown by {@link Table}; {@code id} is
+ * {@code ServiceProviders.id}. {@code serviceType} is the primary category
+ * and {@code serviceTypes} every category offered, the primary one first.
+ */
+public record Provider(long id, String name, String email, String serviceType, String address, String contactNumber,
+        String experience, String dob, List<String> serviceTypes) {
+
+    public Provider {
+        if (serviceTypes == null || serviceTypes.isEmpty()) {
+            serviceTypes = serviceType == null ? List.of() : List.of(serviceType);
+        } else {
+            serviceTypes = List.copyOf(serviceTypes);
+        }
+    }
+
+    /** A provider listed under its primary category only. */
+    public Provider(long id, String name, String email, String serviceType, String address, String contactNumber,
+            String experience, String dob) {
+        this(id, name, email, serviceType, address, contactNumber, experience, dob, null);
+    }
+
+    /** Cells in the order of the table columns. */
+    public Object[] toRow() {
+        return new Object[]{name, email, String.join(", ", serviceTypes), address, contactNumber, experience, dob};
+    }
+
+    /** Field map used for the JSON form of a provider. */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("name", name);
+        map.put("email", email);
+        map.put("service_type", serviceType);
+        map.put("address", address);
+        map.put("contact_number", contactNumber);
+        map.put("experience", experience);
+        map.put("dob", dob);
+        map.put("service_types", serviceTypes);
+        return map;
+    }
+
+    public static Provider fromMap(Map<?, ?> map) {
+        Object id = map.get("id");
+        List<String> serviceTypes = new ArrayList<>();
+        if (map.get("service_types") instanceof List<?> types) {
+            for (Object type : types) {
+                serviceTypes.add(type.toString());
+            }
+        }
+        return new Provider(id instanceof Number n ? n.longValue() : 0, text(map, "name"), text(map, "email"),
+                text(map, "service_type"), text(map, "address"), text(map, "contact_number"), text(map, "experience"),
+                text(map, "dob"), serviceTypes);
+    }
+
+    private static String text(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package loginandsignup;
+
+/**
+ * SQL run by the forms. Kept in one place so the benchmarks and load tests
+ * execute exactly the statements the app does. Single-table statements are
+ * built with {@link Sql}; joins, aggregates and updates are written out.
+ */
+public final class Queries {
+
+    /** Every category id of the provider row, comma-separated. */
+    private static final String CATEGORY_IDS =
+            "(SELECT GROUP_CONCAT(ProviderCategories.category_id) FROM ProviderCategories "
+            + "WHERE ProviderCategories.provider_id = ServiceProviders.id) AS category_ids";
+
+    /**
+     * Joins a provider row to one sign-up, the earliest with its email, so a
+     * re-used email neither lists the provider twice nor counts it twice.
+     * Providers without a sign-up are not listed. The direct listings and the
+     * replica's snapshot and deltas all join this way, so both modes list the
+     * same providers.
+     */
+    private static final String SIGNUP_JOIN =
+            "INNER JOIN ServiceProvidersSignUp ON ServiceProvidersSignUp.provider_id = "
+            + "(SELECT MIN(earliest.provider_id) FROM ServiceProvidersSignUp earliest "
+            + "WHERE earliest.email = ServiceProviders.email) ";
+
+    /** Existence check only: the caller needs to know a row matches, not what is in it. */
+    public static final String LOGIN_USER =
+            Sql.exists(Schema.USER_SIGNUP).where("email").where("password").sql();
+
+    public static final String LOGIN_PROVIDER =
+            Sql.exists(Schema.PROVIDER_SIGNUP).where("email").where("password").sql();
+
+    public static final String INSERT_USER_SIGNUP =
+            Sql.insert(Schema.USER_SIGNUP, "name", "email", "password").sql();
+
+    public static final String INSERT_PROVIDER_SIGNUP =
+            Sql.insert(Schema.PROVIDER_SIGNUP, "name", "email", "password").sql();
+
+    public static final String INSERT_USER_PROFILE =
+            Sql.insert(Schema.USERS, "address", "contact_number", "DOB").sql();
+
+    /** The newest sign-up, read from the end of the primary key instead of through a MAX subquery. */
+    public static final String LATEST_PROVIDER_SIGNUP =
+            Sql.select(Schema.PROVIDER_SIGNUP, "name", "email").orderByDescending("provider_id").limit(1).sql();
+
+    public static final String INSERT_PROVIDER_PROFILE =
+            Sql.insert(Schema.PROVIDERS, "email", "address", "contact_number", "DOB", "service_type", "Experience",
+                    "category_id").sql();
+
+    public static final String SERVICE_CATEGORIES =
+            Sql.select(Schema.SERVICE_CATEGORIES, "id", "service_type", "display_name", "section", "icon")
+                    .orderBy("sort_order").orderBy("id").sql();
+
+    public static final String PROVIDERS_BY_CATEGORY = "SELECT \n" +
+            "    ServiceProviders.id,\n" +
+            "    ServiceProvidersSignUp.name,       \n" +
+            "    ServiceProvidersSignUp.email,     \n" +
+            "    ServiceProviders.service_type,\n" +
+            "    ServiceProviders.address,\n" +
+            "    ServiceProviders.contact_number,\n" +
+            "    ServiceProviders.Experience,\n" +
+            "    ServiceProviders.DOB,\n" +
+            "    " + CATEGORY_IDS + "\n" +
+            "FROM \n" +
+            "    ServiceProviders\n" +
+            SIGNUP_JOIN +
+            "INNER JOIN ProviderCategories ON ProviderCategories.provider_id = ServiceProviders.id " +
+            "where ProviderCategories.category_id = ? AND ServiceProviders.deleted = 0";
+
+    public static final String CATEGORY_COUNTS =
+            "SELECT ProviderCategories.category_id, COUNT(*) AS providers FROM ServiceProviders "
+            + SIGNUP_JOIN
+            + "INNER JOIN ProviderCategories ON ProviderCategories.provider_id = ServiceProviders.id "
+            + "WHERE ServiceProviders.deleted = 0 GROUP BY ProviderCategories.category_id";
+
+    public static final String INSERT_PROVIDER_CATEGORY =
+            Sql.insert(Schema.PROVIDER_CATEGORIES, "provider_id", "category_id").sql();
+
+    /** Includes soft-deleted rows so a delete can still be described. */
+    public static final String PROVIDER_BY_ID =
+            "SELECT ServiceProviders.id, ServiceProvidersSignUp.name, ServiceProvidersSignUp.email, ServiceProviders.service_type, "
+            + "ServiceProviders.address, ServiceProviders.contact_number, ServiceProviders.Experience, ServiceProviders.DOB, "
+            + CATEGORY_IDS + " "
+            + "FROM ServiceProviders " + SIGNUP_JOIN
+            + "WHERE ServiceProviders.id = ?";
+
+    public static final String INSERT_CHANGE =
+            Sql.insert(Schema.CHANGE_LOG, "entity", "row_id", "email", "service_type", "change_kind", "node").sql();
+
+    public static final String INSERT_PROVIDER_VERSION =
+            Sql.insert(Schema.PROVIDER_VERSIONS, "change_id").sql();
+
+    public static final String CHANGES_SINCE =
+            Sql.select(Schema.CHANGE_LOG, "id", "entity", "row_id", "email", "service_type", "change_kind", "node")
+                    .where("id", Sql.Op.GT).orderBy("id").limitParameter().sql();
+
+    /** Log rows in {@code (?, ?]}, for re-reading ids skipped over while they committed. */
+    public static final String CHANGES_BETWEEN =
+            Sql.select(Schema.CHANGE_LOG, "id", "entity", "row_id", "email", "service_type", "change_kind", "node")
+                    .where("id", Sql.Op.GT).where("id", Sql.Op.LE).orderBy("id").limitParameter().sql();
+
+    public static final String LATEST_CHANGE_ID =
+            "SELECT COALESCE(MAX(id), 0) AS id FROM CatalogChangeLog";
+
+    public static final String SET_PROVIDER_VERSION =
+            "UPDATE ServiceProviders SET version = ? WHERE id = ?";
+
+    public static final String DELETE_PROVIDER =
+            "UPDATE ServiceProviders SET deleted = 1, version = ? WHERE id = ? AND deleted = 0";
+
+    /** Every live listing row, for a replica's first load. */
+    public static final String PROVIDER_SNAPSHOT =
+            "SELECT ServiceProviders.id, ServiceProviders.version, ServiceProviders.deleted, ServiceProvidersSignUp.name, "
+            + "ServiceProviders.email, ServiceProviders.service_type, ServiceProviders.address, "
+            + "ServiceProviders.contact_number, ServiceProviders.Experience, ServiceProviders.DOB, " + CATEGORY_IDS + " "
+            + "FROM ServiceProviders " + SIGNUP_JOIN
+            + "WHERE ServiceProviders.deleted = 0";
+
+    /** Rows changed after a version, tombstones included, oldest first. */
+    public static final String PROVIDER_CHANGES_SINCE =
+            "SELECT ServiceProviders.id, ServiceProviders.version, ServiceProviders.deleted, ServiceProvidersSignUp.name, "
+            + "ServiceProviders.email, ServiceProviders.service_type, ServiceProviders.address, "
+            + "ServiceProviders.contact_number, ServiceProviders.Experience, ServiceProviders.DOB, " + CATEGORY_IDS + " "
+            + "FROM ServiceProviders " + SIGNUP_JOIN
+            + "WHERE ServiceProviders.version > ? ORDER BY ServiceProviders.version LIMIT ?";
+
+    private Queries() {
+    }
+}
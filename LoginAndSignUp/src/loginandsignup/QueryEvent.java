@@ -0,0 +1,29 @@
+package loginandsignup;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One SQL execution. For queries the event spans execute through the last
+ * row read (or close), so {@code rows} is the number actually fetched.
+ */
+@Name("lsf.Query")
+@Label("SQL Query")
+@Category({"Local Service Finder", "JDBC"})
+@StackTrace(true)
+public class QueryEvent extends jdk.jfr.Event {
+
+    @Label("Statement")
+    @Description("Normalized SQL text")
+    String sql;
+
+    @Label("Rows")
+    @Description("Rows read from the result set, or the update count")
+    long rows;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,84 @@
+package loginandsignup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Per-statement counters, keyed by the SQL text with literals replaced by
+ * {@code ?} and whitespace collapsed.
+ */
+public final class QueryStats {
+
+    private static final ConcurrentMap<String, QueryStats> BY_SQL = new ConcurrentHashMap<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String sql;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private QueryStats(String sql) {
+        this.sql = sql;
+    }
+
+    public static QueryStats forSql(String rawSql) {
+        String key = normalize(rawSql);
+        return BY_SQL.computeIfAbsent(key, QueryStats::new);
+    }
+
+    public static Collection<QueryStats> all() {
+        return BY_SQL.values();
+    }
+
+    /** Snapshot ordered by total time spent, hottest first. */
+    public static List<QueryStats> hottest() {
+        List<QueryStats> list = new ArrayList<>(BY_SQL.values());
+        list.sort((a, b) -> Long.compare(b.latency.sumMicros(), a.latency.sumMicros()));
+        return list;
+    }
+
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER_LITERAL.matcher(s).replaceAll("?");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim();
+    }
+
+    void recordExecution(long nanos) {
+        latency.recordNanos(nanos);
+    }
+
+    void recordRows(long count) {
+        rows.add(count);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    public long rows() {
+        return rows.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+}
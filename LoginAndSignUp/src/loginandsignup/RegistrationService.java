@@ -0,0 +1,101 @@
+package loginandsignup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sign-up for users ({@code SignUp}) and service providers ({@code SignUp_1}),
+ * or through the {@link CatalogServer} when {@link #configured()} finds
+ * {@code -Dlsf.catalog.url}.
+ */
+public final class RegistrationService {
+
+    /** Null for direct JDBC. */
+    private final HttpCatalogClient server;
+
+    public RegistrationService() {
+        this(null);
+    }
+
+    private RegistrationService(HttpCatalogClient server) {
+        this.server = server;
+    }
+
+    /** Through the catalog server when {@code -Dlsf.catalog.url} is set, direct JDBC otherwise. */
+    public static RegistrationService configured() {
+        String url = System.getProperty("lsf.catalog.url");
+        return url == null || url.isBlank() ? new RegistrationService()
+                : new RegistrationService(HttpCatalogClient.forUrl(url.trim()));
+    }
+
+    /** Returns false if the insert affected no rows. */
+    public boolean signUpUser(String name, String email, String password, String confirmPassword)
+            throws ValidationException, SQLException {
+        validate(name, email, password, confirmPassword);
+        boolean created = server != null ? server.signUp("user", name, email, password, confirmPassword)
+                : insert(Queries.INSERT_USER_SIGNUP, name, email, password);
+        if (created) {
+            Metrics.USER_SIGNUPS.increment();
+        }
+        return created;
+    }
+
+    /**
+     * Returns false if the insert affected no rows. The sign-up is logged to
+     * {@code CatalogChangeLog} in the same transaction.
+     */
+    public boolean signUpProvider(String name, String email, String password, String confirmPassword)
+            throws ValidationException, SQLException {
+        validate(name, email, password, confirmPassword);
+        if (server != null) {
+            boolean created = server.signUp("provider", name, email, password, confirmPassword);
+            if (created) {
+                Metrics.PROVIDER_SIGNUPS.increment();
+            }
+            return created;
+        }
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(Queries.INSERT_PROVIDER_SIGNUP, Statement.RETURN_GENERATED_KEYS)) {
+            conn.setAutoCommit(false);
+            try {
+                bind(pst, name, email, password);
+                if (pst.executeUpdate() == 0) {
+                    conn.rollback();
+                    return false;
+                }
+                ChangeLog.record(conn, ChangeLog.PROVIDER_SIGNUP, ChangeLog.generatedKey(pst), email, null,
+                        CatalogEvents.Kind.INSERTED);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+        Metrics.PROVIDER_SIGNUPS.increment();
+        return true;
+    }
+
+    private static void validate(String name, String email, String password, String confirmPassword)
+            throws ValidationException {
+        Validation.requireFilled(name, email, password, confirmPassword);
+        Validation.requireLetters(name);
+        Validation.requireEmail(email);
+        Validation.requireSamePassword(password, confirmPassword);
+    }
+
+    private static boolean insert(String sql, String name, String email, String password) throws SQLException {
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pst = conn.prepareStatement(sql)) {
+            bind(pst, name, email, password);
+            return pst.executeUpdate() > 0;
+        }
+    }
+
+    private static void bind(PreparedStatement pst, String name, String email, String password) throws SQLException {
+        pst.setString(1, name);
+        pst.setString(2, email);
+        pst.setString(3, password); // stored as entered, as before
+    }
+}
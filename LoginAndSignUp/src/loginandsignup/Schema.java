@@ -0,0 +1,34 @@
+package loginandsignup;
+
+/** The ServiceApp tables as created by {@code db/ServiceApp.sql}, for {@link Sql}. */
+public final class Schema {
+
+    public static final Sql.Table USER_SIGNUP =
+            new Sql.Table("UserSignUp", "id", "name", "email", "password");
+
+    public static final Sql.Table USERS =
+            new Sql.Table("Users", "id", "address", "contact_number", "DOB");
+
+    public static final Sql.Table PROVIDER_SIGNUP =
+            new Sql.Table("ServiceProvidersSignUp", "provider_id", "name", "email", "password");
+
+    public static final Sql.Table SERVICE_CATEGORIES =
+            new Sql.Table("ServiceCategories", "id", "service_type", "display_name", "section", "icon", "sort_order");
+
+    public static final Sql.Table PROVIDERS =
+            new Sql.Table("ServiceProviders", "id", "email", "address", "contact_number", "DOB", "service_type",
+                    "Experience", "category_id", "version", "deleted");
+
+    public static final Sql.Table PROVIDER_CATEGORIES =
+            new Sql.Table("ProviderCategories", "provider_id", "category_id");
+
+    public static final Sql.Table PROVIDER_VERSIONS =
+            new Sql.Table("ProviderVersions", "id", "change_id");
+
+    public static final Sql.Table CHANGE_LOG =
+            new Sql.Table("CatalogChangeLog", "id", "entity", "row_id", "email", "service_type", "change_kind", "node",
+                    "changed_at");
+
+    private Schema() {
+    }
+}
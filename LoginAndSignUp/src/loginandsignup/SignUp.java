@@ -1,17 +1,18 @@
 
 package loginandsignup;
 import javax.swing.JOptionPane;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 
 
 public class SignUp extends javax.swing.JFrame {
 
+    private final RegistrationService registration = RegistrationService.configured();
+
     public SignUp() {
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
         initComponents();
+        opening.componentsReady();
+        opening.finish();
     }
 
     @SuppressWarnings("unchecked")
@@ -37,7 +38,7 @@ public class SignUp extends javax.swing.JFrame {
         jButton1 = new javax.swing.JButton();
         jButton3 = new javax.swing.JButton();
         jButton2 = new javax.swing.JButton();
-        jLabel11 = new javax.swing.JLabel();
+        background = new BackgroundImage("/loginandsignup/QD-OLED-3840x2160_MAG.jpg");
 
         setDefaultCloseOperation(javax.swing.WindowConstants.EXIT_ON_CLOSE);
         setTitle("Sign Up");
@@ -59,7 +60,7 @@ public class SignUp extends javax.swing.JFrame {
         jLabel8.setForeground(new java.awt.Color(255, 255, 255));
         jLabel8.setText("Copyrights © LSF all rights reserved");
 
-        jLabel10.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/fr.png"))); // NOI18N
+        jLabel10.setIcon(Icons.load("/loginandsignup/fr.png"));
         jLabel10.setText("jLabel4");
 
         javax.swing.GroupLayout jPanel1Layout = new javax.swing.GroupLayout(jPanel1);
@@ -145,14 +146,14 @@ public class SignUp extends javax.swing.JFrame {
             }
         });
 
-        jButton3.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/exit button.jpg"))); // NOI18N
+        jButton3.setIcon(Icons.load("/loginandsignup/exit button.jpg"));
         jButton3.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton3ActionPerformed(evt);
             }
         });
 
-        jButton2.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/back.png"))); // NOI18N
+        jButton2.setIcon(Icons.load("/loginandsignup/back.png"));
         jButton2.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton2ActionPerformed(evt);
@@ -220,10 +221,8 @@ public class SignUp extends javax.swing.JFrame {
         jPanel3.add(jPanel2);
         jPanel2.setBounds(780, 150, 400, 500);
 
-        jLabel11.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/QD-OLED-3840x2160_MAG.jpg"))); // NOI18N
-        jLabel11.setText("jLabel9");
-        jPanel3.add(jLabel11);
-        jLabel11.setBounds(-1250, 0, 3490, 1110);
+        jPanel3.add(background);
+        background.setBounds(0, 0, 1920, 1080);
 
         javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
         getContentPane().setLayout(layout);
@@ -251,57 +250,17 @@ public class SignUp extends javax.swing.JFrame {
         String userPassword = new String(password.getPassword());  // 'password' is the JPasswordField for the password
         String userConfirmPassword = new String(confirmpassword.getPassword());  // 'confirmpassword' is the confirm password field
 
-        // Check if fields are not empty
-        if (userName.isEmpty() || userEmail.isEmpty() || userPassword.isEmpty() || userConfirmPassword.isEmpty()) {
-            JOptionPane.showMessageDialog(this, "Please fill all fields");
-            return;
-        }
-
-    if (!userName.matches("[a-zA-Z ]+")) {  // Only allows letters (both upper and lowercase) and spaces
-        JOptionPane.showMessageDialog(this, "Invalid input! The field must only contain letters and spaces.");
-        return;  // Stop further execution
-    }
- 
-    
-    if (!userEmail.contains("@")) {
-        JOptionPane.showMessageDialog(this, "Invalid email!");
-        return;  // Stop further execution
-    }
-        
-        // Check if the password and confirm password match
-        if (!userPassword.equals(userConfirmPassword)) {
-            JOptionPane.showMessageDialog(this, "Passwords do not match. Please try again.");
-            return;  // Stop the process if passwords do not match
-        }
-
-        // If all checks pass, establish the database connection and insert user data
         try {
-            // Establish connection to the database
-            Connection conn = DriverManager.getConnection("jdbc:mysql://localhost:3306/ServiceApp", "root", "student");
-
-            // SQL query to insert the new user's details (no confirm password in the table)
-            String sql = "INSERT INTO UserSignUp (name, email, password) VALUES (?, ?, ?)";
-            PreparedStatement pst = conn.prepareStatement(sql);
-            pst.setString(1, userName);
-            pst.setString(2, userEmail);  // Set email
-            pst.setString(3, userPassword);  // Set password (consider hashing for security)
-
-            // Execute the update and check if the insertion was successful
-            int rowsAffected = pst.executeUpdate();
-            if (rowsAffected > 0) {
+            if (registration.signUpUser(userName, userEmail, userPassword, userConfirmPassword)) {
                 JOptionPane.showMessageDialog(this, "Sign-up successful!");
                 // Navigate to the Login page after successful sign-up
-                UserForm UserFormFrame = new UserForm();
-                UserFormFrame.setVisible(true);
-                UserFormFrame.pack();
-                UserFormFrame.setLocationRelativeTo(null);
+                Navigator.show(UserForm.class, UserForm::new);
+                Navigator.close(this);
             } else {
                 JOptionPane.showMessageDialog(this, "Sign-up failed. Please try again.");
             }
-
-            // Close the database resources
-            pst.close();
-            conn.close();
+        } catch (ValidationException e) {
+            JOptionPane.showMessageDialog(this, e.getMessage());
         } catch (SQLException e) {
             // Handle any database errors
             e.printStackTrace();
@@ -339,23 +298,20 @@ public class SignUp extends javax.swing.JFrame {
     }//GEN-LAST:event_jButton3ActionPerformed
 
     private void jButton2ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton2ActionPerformed
-        UserInterfaceee UserInterfaceeeFrame = new UserInterfaceee();
-        UserInterfaceeeFrame.setVisible(true);
-        UserInterfaceeeFrame.pack();
-        UserInterfaceeeFrame.setLocationRelativeTo(null);
+        Navigator.show(UserInterfaceee.class, UserInterfaceee::new);
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton2ActionPerformed
 
 
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private loginandsignup.BackgroundImage background;
     private javax.swing.JPasswordField confirmpassword;
     private javax.swing.JTextField email;
     private javax.swing.JButton jButton1;
     private javax.swing.JButton jButton2;
     private javax.swing.JButton jButton3;
     private javax.swing.JLabel jLabel10;
-    private javax.swing.JLabel jLabel11;
     private javax.swing.JLabel jLabel2;
     private javax.swing.JLabel jLabel3;
     private javax.swing.JLabel jLabel4;
@@ -0,0 +1,90 @@
+package loginandsignup;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses concurrent calls with equal keys into one execution. The first
+ * caller runs the work; callers arriving while it is in flight wait for it
+ * and share its result or its failure. Nothing is kept once the call
+ * returns, so this never serves stale data the way a cache can.
+ * <p>
+ * Shared results must be treated as read-only by every caller.
+ */
+final class SingleFlight<K, V> {
+
+    /** A database call that may be shared. */
+    interface Work<V> {
+        V run() throws SQLException;
+    }
+
+    /** A statement and its parameters, with the SQL whitespace-normalised. */
+    record QueryKey(String sql, List<Object> parameters) {
+
+        private static final Map<String, String> NORMALISED = new ConcurrentHashMap<>();
+
+        static QueryKey of(String sql, Object... parameters) {
+            return new QueryKey(NORMALISED.computeIfAbsent(sql, s -> s.strip().replaceAll("\\s+", " ")),
+                    Arrays.asList(parameters));
+        }
+    }
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed;
+    private final LongAdder saved;
+
+    SingleFlight(String name) {
+        String label = "{flight=\"" + Metrics.escape(name) + "\"}";
+        executed = Metrics.counter("lsf_singleflight_executed_total" + label, "Calls that ran their own database execution");
+        saved = Metrics.counter("lsf_singleflight_saved_total" + label, "Calls served by another caller's in-flight execution");
+    }
+
+    V run(K key, Work<V> work) throws SQLException {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            saved.increment();
+            return await(running);
+        }
+        executed.increment();
+        try {
+            V result = work.run();
+            mine.complete(result);
+            return result;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    long saved() {
+        return saved.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) throws SQLException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException sql) {
+                // a fresh exception so the stack shows this caller, not the one that ran the query
+                throw new SQLException(sql.getMessage(), sql.getSQLState(), sql.getErrorCode(), sql);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package loginandsignup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds statements over the tables in {@link Schema}. Column names are
+ * checked against the table when the statement is built, and values are
+ * always {@code ?} parameters. Statements are values: the text is rendered
+ * once per distinct shape and cached, so a statement rebuilt on every call
+ * (the admin grid's) costs a map lookup. The cache holds shapes, never
+ * values, so it stays as small as the set of queries the app can ask.
+ */
+public final class Sql {
+
+    private static final Map<Object, String> TEXT = new ConcurrentHashMap<>();
+
+    static {
+        Metrics.gauge("lsf_sql_text_cached", "Statement shapes rendered to SQL text", TEXT::size);
+    }
+
+    /** A table and every column it has. */
+    public record Table(String name, List<String> columns) {
+
+        public Table(String name, String... columns) {
+            this(name, List.of(columns));
+        }
+
+        /** The column itself if the table has it, otherwise an exception. */
+        public String column(String column) {
+            if (!columns.contains(column)) {
+                throw new IllegalArgumentException(name + " has no column " + column);
+            }
+            return column;
+        }
+    }
+
+    /** How a predicate compares its column; {@link #ZERO} takes no parameter. */
+    public enum Op {
+        EQ(" = ?"), GT(" > ?"), LE(" <= ?"), LIKE(" LIKE ?"), ZERO(" = 0");
+
+        private final String text;
+
+        Op(String text) {
+            this.text = text;
+        }
+    }
+
+    record Predicate(String column, Op op) {
+    }
+
+    /** A SELECT from one table. Each method returns a new statement. */
+    public record Select(Table table, String projection, List<Predicate> where, List<String> orderBy,
+            String limit, boolean offset) {
+
+        public Select {
+            where = List.copyOf(where);
+            orderBy = List.copyOf(orderBy);
+        }
+
+        /** Adds {@code column = ?}. Predicates are ANDed in the order added. */
+        public Select where(String column) {
+            return where(column, Op.EQ);
+        }
+
+        public Select where(String column, Op op) {
+            List<Predicate> next = new ArrayList<>(where);
+            next.add(new Predicate(table.column(column), op));
+            return new Select(table, projection, next, orderBy, limit, offset);
+        }
+
+        public Select orderBy(String column) {
+            return order(table.column(column));
+        }
+
+        public Select orderByDescending(String column) {
+            return order(table.column(column) + " DESC");
+        }
+
+        public Select limit(int rows) {
+            return new Select(table, projection, where, orderBy, Integer.toString(rows), offset);
+        }
+
+        /** {@code LIMIT ?}, bound after the predicates. */
+        public Select limitParameter() {
+            return new Select(table, projection, where, orderBy, "?", offset);
+        }
+
+        /** {@code OFFSET ?}, bound last. */
+        public Select offsetParameter() {
+            return new Select(table, projection, where, orderBy, limit, true);
+        }
+
+        public String sql() {
+            return TEXT.computeIfAbsent(this, k -> render());
+        }
+
+        private Select order(String term) {
+            List<String> next = new ArrayList<>(orderBy);
+            next.add(term);
+            return new Select(table, projection, where, next, limit, offset);
+        }
+
+        private String render() {
+            StringBuilder sql = new StringBuilder("SELECT ").append(projection).append(" FROM ").append(table.name());
+            for (int i = 0; i < where.size(); i++) {
+                Predicate p = where.get(i);
+                sql.append(i == 0 ? " WHERE " : " AND ").append(p.column()).append(p.op().text);
+            }
+            if (!orderBy.isEmpty()) {
+                sql.append(" ORDER BY ").append(String.join(", ", orderBy));
+            }
+            if (limit != null) {
+                sql.append(" LIMIT ").append(limit);
+            }
+            if (offset) {
+                sql.append(" OFFSET ?");
+            }
+            return sql.toString();
+        }
+    }
+
+    /** An INSERT of one row. */
+    public record Insert(Table table, List<String> columns) {
+
+        public Insert {
+            columns = List.copyOf(columns);
+            for (String column : columns) {
+                table.column(column);
+            }
+        }
+
+        public String sql() {
+            return TEXT.computeIfAbsent(this, k -> "INSERT INTO " + table.name() + " (" + String.join(", ", columns)
+                    + ") VALUES (" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")");
+        }
+    }
+
+    private Sql() {
+    }
+
+    /** Selects exactly {@code columns}, in that order. */
+    public static Select select(Table table, String... columns) {
+        return select(table, List.of(columns));
+    }
+
+    public static Select select(Table table, List<String> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Select at least one column of " + table.name());
+        }
+        for (String column : columns) {
+            table.column(column);
+        }
+        return new Select(table, String.join(", ", columns), List.of(), List.of(), null, false);
+    }
+
+    /** {@code SELECT 1 ... LIMIT 1}: whether any row matches, reading no columns. */
+    public static Select exists(Table table) {
+        return new Select(table, "1", List.of(), List.of(), "1", false);
+    }
+
+    public static Select count(Table table) {
+        return new Select(table, "COUNT(*)", List.of(), List.of(), null, false);
+    }
+
+    public static Insert insert(Table table, String... columns) {
+        return new Insert(table, List.of(columns));
+    }
+}
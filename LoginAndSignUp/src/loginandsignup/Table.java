@@ -4,18 +4,254 @@ import java.sql.*;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.sql.SQLException; 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import javax.swing.JOptionPane;
+import javax.swing.table.TableRowSorter;
 
 public class Table extends javax.swing.JFrame {
 
+    /** Views kept alive for instant re-display, per service type. */
+    static final int MAX_VIEWS = Integer.getInteger("lsf.tables.max", 4);
+    static final long DEBOUNCE_MILLIS = 400;
+    private static final int MAX_PREFETCHES = 4;
+    /** Model column holding the provider id; not shown. */
+    private static final int ID_COLUMN = 7;
+
+    public static final LongAdder PREFETCHED = Metrics.counter("lsf_table_prefetch_total{result=\"used\"}", "Hover prefetches of a category's providers");
+    public static final LongAdder PREFETCH_WASTED = Metrics.counter("lsf_table_prefetch_total{result=\"wasted\"}", "Hover prefetches of a category's providers");
+    public static final LongAdder DEBOUNCED = Metrics.counter("lsf_table_clicks_debounced_total", "Repeat category clicks ignored");
+
+    private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "lsf-table-prefetch");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // EDT only; access-ordered so the first entry is the least recently used
+    private static final Map<String, Table> VIEWS = new LinkedHashMap<>(8, 0.75f, true);
+    private static final Map<String, Prefetch> PREFETCHES = new LinkedHashMap<>(8, 0.75f, true);
+    private static String lastShown;
+    private static long lastShownAt;
+
     public String serviceType;
+    private final Catalog catalog = Catalog.configured();
+    private CatalogEvents.Subscription changes;
+    private final FacetIndex facets = new FacetIndex();
+    private final Map<FacetIndex.Facet, Set<String>> selection = new EnumMap<>(FacetIndex.Facet.class);
+    private final Map<FacetIndex.Facet, JComboBox<FacetChoice>> facetBoxes = new EnumMap<>(FacetIndex.Facet.class);
+    private IdBitmap matching; // null while no facet is chosen
+    private boolean refreshingFacets;
+    private TableRowSorter<DefaultTableModel> sorter;
+    /** Provider id to its model row, so a change finds its row without scanning. */
+    private final Map<Long, Integer> rowsById = new HashMap<>();
 
 
     public Table(String serviceType) {
         this.serviceType = serviceType;
-       
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
         initComponents();
-        fetchAndDisplayData();
+        opening.componentsReady();
+        installFilters();
+        Consumer<CatalogEvents.Change> apply = change -> SwingUtilities.invokeLater(() -> applyChange(change));
+        Prefetch prefetch = PREFETCHES.remove(serviceType);
+        if (prefetch != null) {
+            changes = prefetch.subscription;
+            fetchAndDisplayData(prefetch);
+            prefetch.handOver(apply);
+        } else {
+            // Subscribe before the fetch so nothing published in between is missed
+            changes = CatalogEvents.subscribe(apply);
+            fetchAndDisplayData(null);
+        }
+        opening.finish();
+    }
+
+    /**
+     * Shows the view for {@code serviceType}, reusing it while it is among
+     * the last {@link #MAX_VIEWS} shown. A repeat click on the same category
+     * within {@link #DEBOUNCE_MILLIS} is ignored.
+     */
+    public static void show(String serviceType) {
+        long now = System.currentTimeMillis();
+        if (serviceType.equals(lastShown) && now - lastShownAt < DEBOUNCE_MILLIS) {
+            DEBOUNCED.increment();
+            return;
+        }
+        lastShown = serviceType;
+        lastShownAt = now;
+        Table view = Navigator.show("Table:" + serviceType, () -> new Table(serviceType));
+        VIEWS.put(serviceType, view);
+        while (VIEWS.size() > MAX_VIEWS) {
+            Table eldest = VIEWS.values().iterator().next();
+            if (eldest == view) {
+                break;
+            }
+            Navigator.close(eldest); // dispose() drops it from VIEWS
+        }
+    }
+
+    /**
+     * Starts loading {@code serviceType} in the background, typically when
+     * the pointer enters its button, so the click finds the rows ready.
+     * Changes published meanwhile are buffered and replayed into the view.
+     */
+    public static void prefetch(String serviceType) {
+        if (VIEWS.containsKey(serviceType) || PREFETCHES.containsKey(serviceType)) {
+            return;
+        }
+        PREFETCHES.put(serviceType, new Prefetch(Catalog.configured(), serviceType));
+        while (PREFETCHES.size() > MAX_PREFETCHES) {
+            Iterator<Map.Entry<String, Prefetch>> eldest = PREFETCHES.entrySet().iterator();
+            eldest.next().getValue().subscription.close();
+            eldest.remove();
+            PREFETCH_WASTED.increment();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (changes != null) {
+            changes.close();
+            changes = null;
+        }
+        VIEWS.remove(serviceType, this);
+        super.dispose();
+    }
+
+    /** Rows fetched ahead of the view, plus the changes published since the fetch began. */
+    private static final class Prefetch implements Consumer<CatalogEvents.Change> {
+
+        final CatalogEvents.Subscription subscription;
+        final CompletableFuture<List<Provider>> rows;
+        private final List<CatalogEvents.Change> missed = new ArrayList<>();
+        private Consumer<CatalogEvents.Change> target;
+
+        Prefetch(Catalog catalog, String serviceType) {
+            subscription = CatalogEvents.subscribe(this); // before the fetch, as in the constructor
+            rows = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return catalog.providersByService(serviceType);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            }, PREFETCHER);
+        }
+
+        @Override
+        public synchronized void accept(CatalogEvents.Change change) {
+            if (target != null) {
+                target.accept(change);
+            } else {
+                missed.add(change);
+            }
+        }
+
+        synchronized void handOver(Consumer<CatalogEvents.Change> view) {
+            missed.forEach(view);
+            missed.clear();
+            target = view;
+        }
+    }
+
+    /** One facet value in a filter box; a null value stands for no filter. */
+    private record FacetChoice(String value, int count) {
+
+        @Override
+        public String toString() {
+            return (value == null ? "All" : value) + " (" + count + ")";
+        }
+    }
+
+    /** Hides the id column, filters rows through the facet selection and adds a box per facet. */
+    private void installFilters() {
+        DefaultTableModel model = (DefaultTableModel) jTable1.getModel();
+        model.addColumn("Id");
+        jTable1.removeColumn(jTable1.getColumnModel().getColumn(ID_COLUMN));
+        sorter = new TableRowSorter<>(model);
+        sorter.setRowFilter(new RowFilter<DefaultTableModel, Integer>() {
+            @Override
+            public boolean include(Entry<? extends DefaultTableModel, ? extends Integer> entry) {
+                return matching == null
+                        || entry.getValue(ID_COLUMN) instanceof Long id && matching.contains(Math.toIntExact(id));
+            }
+        });
+        jTable1.setRowSorter(sorter);
+        for (FacetIndex.Facet facet : FacetIndex.Facet.values()) {
+            JLabel label = new JLabel(facet.label);
+            label.setFont(new java.awt.Font("Segoe UI Black", 1, 18));
+            label.setForeground(java.awt.Color.WHITE);
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            JComboBox<FacetChoice> box = new JComboBox<>();
+            box.setFont(new java.awt.Font("Segoe UI", 0, 16));
+            box.setAlignmentX(LEFT_ALIGNMENT);
+            box.setMaximumSize(new java.awt.Dimension(400, 36));
+            box.addItemListener(e -> {
+                if (e.getStateChange() == java.awt.event.ItemEvent.SELECTED && !refreshingFacets) {
+                    String value = ((FacetChoice) e.getItem()).value();
+                    selection.put(facet, value == null ? Set.of() : Set.of(value));
+                    refilter();
+                }
+            });
+            facetBoxes.put(facet, box);
+            filters.add(label);
+            filters.add(Box.createVerticalStrut(6));
+            filters.add(box);
+            filters.add(Box.createVerticalStrut(24));
+        }
+    }
+
+    /** Recomputes the matching ids and every facet's counts, then re-filters the rows. */
+    private void refilter() {
+        boolean filtered = false;
+        for (Set<String> chosen : selection.values()) {
+            filtered |= !chosen.isEmpty();
+        }
+        matching = filtered ? facets.matching(selection) : null;
+        refreshingFacets = true;
+        try {
+            for (Map.Entry<FacetIndex.Facet, JComboBox<FacetChoice>> e : facetBoxes.entrySet()) {
+                Set<String> chosen = selection.getOrDefault(e.getKey(), Set.of());
+                Map<String, Integer> counts = facets.counts(e.getKey(), selection);
+                int total = 0;
+                for (int n : counts.values()) {
+                    total += n;
+                }
+                DefaultComboBoxModel<FacetChoice> choices = new DefaultComboBoxModel<>();
+                choices.addElement(new FacetChoice(null, total));
+                for (Map.Entry<String, Integer> count : counts.entrySet()) {
+                    FacetChoice choice = new FacetChoice(count.getKey(), count.getValue());
+                    choices.addElement(choice);
+                    if (chosen.contains(choice.value())) {
+                        choices.setSelectedItem(choice);
+                    }
+                }
+                e.getValue().setModel(choices);
+            }
+        } finally {
+            refreshingFacets = false;
+        }
+        sorter.sort();
+    }
+
+    /** The table cells for a provider, with its id in the hidden column. */
+    private static Object[] row(Provider provider) {
+        Object[] cells = Arrays.copyOf(provider.toRow(), ID_COLUMN + 1);
+        cells[ID_COLUMN] = provider.id();
+        return cells;
     }
 
         private Table() {
@@ -28,6 +264,7 @@ public class Table extends javax.swing.JFrame {
 
         jScrollPane1 = new javax.swing.JScrollPane();
         jTable1 = new javax.swing.JTable();
+        filters = new javax.swing.JPanel();
         jPanel1 = new javax.swing.JPanel();
         jPanel2 = new javax.swing.JPanel();
         jLabel1 = new javax.swing.JLabel();
@@ -52,12 +289,15 @@ public class Table extends javax.swing.JFrame {
         ));
         jScrollPane1.setViewportView(jTable1);
 
+        filters.setOpaque(false);
+        filters.setLayout(new javax.swing.BoxLayout(filters, javax.swing.BoxLayout.Y_AXIS));
+
         jPanel1.setLayout(null);
 
         jPanel2.setBackground(new java.awt.Color(255, 255, 255));
         jPanel2.setForeground(new java.awt.Color(255, 255, 255));
 
-        jLabel1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/front logo.png"))); // NOI18N
+        jLabel1.setIcon(Icons.load("/loginandsignup/front logo.png"));
 
         jLabel9.setFont(new java.awt.Font("Rockwell Extra Bold", 1, 48)); // NOI18N
         jLabel9.setForeground(new java.awt.Color(0, 51, 51));
@@ -87,7 +327,7 @@ public class Table extends javax.swing.JFrame {
             }
         });
 
-        jButton12.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/exit button.jpg"))); // NOI18N
+        jButton12.setIcon(Icons.load("/loginandsignup/exit button.jpg"));
         jButton12.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton12ActionPerformed(evt);
@@ -179,7 +419,9 @@ public class Table extends javax.swing.JFrame {
             .addGroup(layout.createSequentialGroup()
                 .addGap(130, 130, 130)
                 .addComponent(jScrollPane1, javax.swing.GroupLayout.PREFERRED_SIZE, 1265, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addContainerGap(547, Short.MAX_VALUE))
+                .addGap(30, 30, 30)
+                .addComponent(filters, javax.swing.GroupLayout.PREFERRED_SIZE, 400, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addContainerGap(117, Short.MAX_VALUE))
             .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
                 .addGroup(layout.createSequentialGroup()
                     .addContainerGap()
@@ -190,7 +432,9 @@ public class Table extends javax.swing.JFrame {
             layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
             .addGroup(layout.createSequentialGroup()
                 .addGap(157, 157, 157)
-                .addComponent(jScrollPane1, javax.swing.GroupLayout.PREFERRED_SIZE, 597, javax.swing.GroupLayout.PREFERRED_SIZE)
+                .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+                    .addComponent(jScrollPane1, javax.swing.GroupLayout.PREFERRED_SIZE, 597, javax.swing.GroupLayout.PREFERRED_SIZE)
+                    .addComponent(filters, javax.swing.GroupLayout.PREFERRED_SIZE, 597, javax.swing.GroupLayout.PREFERRED_SIZE))
                 .addContainerGap(338, Short.MAX_VALUE))
             .addGroup(layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
                 .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createSequentialGroup()
@@ -203,10 +447,7 @@ public class Table extends javax.swing.JFrame {
     }// </editor-fold>//GEN-END:initComponents
 
     private void jButton4ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton4ActionPerformed
-        UserInterface UserInterfaceFrame = new UserInterface();
-        UserInterfaceFrame.setVisible(true);
-        UserInterfaceFrame.pack();
-        UserInterfaceFrame.setLocationRelativeTo(null);
+        Navigator.show(UserInterface.class, UserInterface::new);
        
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton4ActionPerformed
@@ -226,59 +467,87 @@ public class Table extends javax.swing.JFrame {
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton12ActionPerformed
 
-private void fetchAndDisplayData() {
-        // Establish the database connection
+private void fetchAndDisplayData(Prefetch prefetch) {
         try {
-            // SQL query to retrieve the data
-            try (Connection conn = DriverManager.getConnection("jdbc:mysql://localhost:3306/ServiceApp", "root", "student")) {
-                // SQL query to retrieve the data
-                String sql = "SELECT \n" +
-                        "    ServiceProvidersSignUp.name,       \n" +
-                        "    ServiceProvidersSignUp.email,     \n" +
-                        "    ServiceProviders.service_type,\n" +
-                        "    ServiceProviders.address,\n" +
-                        "    ServiceProviders.contact_number,\n" +
-                        "    ServiceProviders.Experience,\n" +
-                        "    ServiceProviders.DOB\n" +
-                        "FROM \n" +
-                        "    ServiceProviders\n" +
-                        "INNER JOIN \n" +
-                        "    ServiceProvidersSignUp \n" +
-                        "ON \n" +
-                        "    ServiceProviders.email = ServiceProvidersSignUp.email where service_type = ? ";
-                PreparedStatement pst = conn.prepareStatement(sql);
-                pst.setString(1, serviceType);
-                ResultSet rs = pst.executeQuery();
-                
-                // Get the table model
-                DefaultTableModel model = (DefaultTableModel) jTable1.getModel();
-                
-                // Clear existing rows
-                model.setRowCount(0);
-                
-                // Loop through the ResultSet and add rows to the table model
-                while (rs.next()) {
-                    Object[] row = {
-                        rs.getString("name"),
-                        rs.getString("email"),
-                        rs.getString("service_type"),
-                        rs.getString("address"),
-                        rs.getString("contact_number"),
-                        rs.getString("Experience"),
-                        rs.getString("DOB")
-                    };
-                    model.addRow(row);
-                }
-                
-                // Close resources
-                rs.close();
-                pst.close();
+            // Get the table model
+            DefaultTableModel model = (DefaultTableModel) jTable1.getModel();
+
+            // Clear existing rows
+            model.setRowCount(0);
+            rowsById.clear();
+            facets.clear();
+            List<Provider> providers = load(prefetch);
+            for (Provider provider : providers) {
+                facets.add(provider);
+            }
+            refilter();
+            for (Provider provider : providers) {
+                addRow(model, provider);
             }
         } catch (SQLException e) {
             JOptionPane.showMessageDialog(this, "Error fetching data: " + e.getMessage());
         }
     }
 
+    private List<Provider> load(Prefetch prefetch) throws SQLException {
+        if (prefetch != null) {
+            try {
+                List<Provider> rows = prefetch.rows.join();
+                PREFETCHED.increment();
+                return rows;
+            } catch (CompletionException e) {
+                // fetch again below and report that failure, if any
+            }
+        }
+        return catalog.providersByService(serviceType);
+    }
+
+    /** Appends, patches or removes the one row a provider change touches instead of refetching. */
+    private void applyChange(CatalogEvents.Change change) {
+        if (changes == null) {
+            return;
+        }
+        DefaultTableModel model = (DefaultTableModel) jTable1.getModel();
+        Provider provider = change.provider();
+        Object[] cells = row(provider);
+        boolean listed = provider.serviceTypes().contains(serviceType);
+        // index first so the row filter already knows the row when the model fires
+        if (listed && change.kind() != CatalogEvents.Kind.DELETED) {
+            facets.add(provider);
+        } else {
+            facets.remove(provider.id());
+        }
+        refilter();
+        Integer row = rowsById.get(provider.id());
+        if (change.kind() == CatalogEvents.Kind.DELETED || !listed) {
+            // deleted, or moved to another category
+            if (row != null) {
+                removeRow(model, row);
+            }
+            return;
+        }
+        if (row == null) {
+            addRow(model, provider);
+            return;
+        }
+        for (int col = 0; col < cells.length; col++) {
+            if (!java.util.Objects.equals(model.getValueAt(row, col), cells[col])) {
+                model.setValueAt(cells[col], row, col);
+            }
+        }
+    }
+
+    private void addRow(DefaultTableModel model, Provider provider) {
+        rowsById.put(provider.id(), model.getRowCount());
+        model.addRow(row(provider));
+    }
+
+    private void removeRow(DefaultTableModel model, int row) {
+        rowsById.remove((Long) model.getValueAt(row, ID_COLUMN));
+        model.removeRow(row);
+        rowsById.replaceAll((id, at) -> at > row ? at - 1 : at);
+    }
+
 public static void main(String args[]) {
     java.awt.EventQueue.invokeLater(new Runnable() {
         public void run() {
@@ -290,6 +559,7 @@ public static void main(String args[]) {
 
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JPanel filters;
     private javax.swing.JButton jButton12;
     private javax.swing.JButton jButton4;
     private javax.swing.JButton jButton6;
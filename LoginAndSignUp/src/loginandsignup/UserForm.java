@@ -1,9 +1,5 @@
 
 package loginandsignup;
-import java.text.SimpleDateFormat;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import javax.swing.JOptionPane;
 import java.util.Date;
@@ -12,9 +8,13 @@ import java.util.Date;
 
 public class UserForm extends javax.swing.JFrame {
 
+    private final ProfileService profiles = new ProfileService();
 
     public UserForm() {
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
         initComponents();
+        opening.componentsReady();
+        opening.finish();
     }
 
 
@@ -47,7 +47,7 @@ public class UserForm extends javax.swing.JFrame {
         jPanel2.setBackground(new java.awt.Color(255, 255, 255));
         jPanel2.setForeground(new java.awt.Color(255, 255, 255));
 
-        jLabel1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/front logo.png"))); // NOI18N
+        jLabel1.setIcon(Icons.load("/loginandsignup/front logo.png"));
 
         jLabel9.setFont(new java.awt.Font("Rockwell Extra Bold", 1, 48)); // NOI18N
         jLabel9.setForeground(new java.awt.Color(0, 51, 51));
@@ -57,7 +57,7 @@ public class UserForm extends javax.swing.JFrame {
         jLabel10.setForeground(new java.awt.Color(0, 51, 51));
         jLabel10.setText("LOCAL SERVICES FINDER");
 
-        jButton4.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/exit button.jpg"))); // NOI18N
+        jButton4.setIcon(Icons.load("/loginandsignup/exit button.jpg"));
         jButton4.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton4ActionPerformed(evt);
@@ -265,46 +265,17 @@ public class UserForm extends javax.swing.JFrame {
     String userContactNo = contactno.getText();// 'email' is the JTextField for the email
     Date userDob = jDateChooser2.getDate();    
 
-
-    // Check if fields are not empty
-    if (userAddress.isEmpty() || userContactNo.isEmpty() || userDob == null) {
-        JOptionPane.showMessageDialog(this, "Please fill all fields");
-        return;
-    }
-
-        // Format the Date as String (e.g., "yyyy-MM-dd")
-    SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
-    String dobString = dateFormat.format(userDob);
-
-    
-    // If all checks pass, establish the database connection and insert user data
     try {
-        // Establish connection to the database
-        Connection conn = DriverManager.getConnection("jdbc:mysql://localhost:3306/ServiceApp", "root", "student");
-
-        // SQL query to insert the new user's details (no confirm password in the table)
-        String sql = "INSERT INTO Users (address, contact_number, DOB) VALUES (?, ?, ?)";
-        PreparedStatement pst = conn.prepareStatement(sql);
-        pst.setString(1, userAddress);
-        pst.setString(2, userContactNo);  // Set email
-        pst.setString(3, dobString);   // Set password (consider hashing for security)
-
-        // Execute the update and check if the insertion was successful
-        int rowsAffected = pst.executeUpdate();
-        if (rowsAffected > 0) {
+        if (profiles.saveUserProfile(userAddress, userContactNo, userDob)) {
             JOptionPane.showMessageDialog(this, "Entered Detail successfully!");
             // Navigate to the Login page after successful sign-up
-            Login LoginFrame = new Login();
-            LoginFrame.setVisible(true);
-            LoginFrame.pack();
-            LoginFrame.setLocationRelativeTo(null); 
+            Navigator.show(Login.class, Login::new);
+            Navigator.close(this);
         } else {
             JOptionPane.showMessageDialog(this, "failed. Please try again.");
         }
-
-        // Close the database resources
-        pst.close();
-        conn.close();
+    } catch (ValidationException e) {
+        JOptionPane.showMessageDialog(this, e.getMessage());
     } catch (SQLException e) {
         // Handle any database errors
         e.printStackTrace();
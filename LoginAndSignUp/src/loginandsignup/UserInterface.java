@@ -12,7 +12,10 @@ public class UserInterface extends javax.swing.JFrame {
 
 
     public UserInterface() {
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
         initComponents();
+        opening.componentsReady();
+        opening.finish();
     }
 
 
@@ -46,7 +49,7 @@ public class UserInterface extends javax.swing.JFrame {
         jPanel2.setBackground(new java.awt.Color(255, 255, 255));
         jPanel2.setForeground(new java.awt.Color(255, 255, 255));
 
-        jLabel1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/front logo.png"))); // NOI18N
+        jLabel1.setIcon(Icons.load("/loginandsignup/front logo.png"));
 
         jLabel9.setFont(new java.awt.Font("Rockwell Extra Bold", 1, 48)); // NOI18N
         jLabel9.setForeground(new java.awt.Color(0, 51, 51));
@@ -56,7 +59,7 @@ public class UserInterface extends javax.swing.JFrame {
         jLabel10.setForeground(new java.awt.Color(0, 51, 51));
         jLabel10.setText("LOCAL SERVICES FINDER");
 
-        jButton3.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/exit button.jpg"))); // NOI18N
+        jButton3.setIcon(Icons.load("/loginandsignup/exit button.jpg"));
         jButton3.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton3ActionPerformed(evt);
@@ -117,7 +120,7 @@ public class UserInterface extends javax.swing.JFrame {
         jLabel8.setText("with trusted professionals in your area—quickly and easily.\"");
 
         jLabel2.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
-        jLabel2.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/Firefly 20240923193915.png"))); // NOI18N
+        jLabel2.setIcon(Icons.load("/loginandsignup/Firefly 20240923193915.png"));
         jLabel2.setVerticalAlignment(javax.swing.SwingConstants.BOTTOM);
 
         jLabel7.setFont(new java.awt.Font("Segoe UI Black", 1, 24)); // NOI18N
@@ -268,10 +271,7 @@ public class UserInterface extends javax.swing.JFrame {
     }//GEN-LAST:event_searchActionPerformed
 
     private void jButton1ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton1ActionPerformed
-        Categories CategoriesFrame = new Categories();
-        CategoriesFrame.setVisible(true);
-        CategoriesFrame.pack();
-        CategoriesFrame.setLocationRelativeTo(null);  
+        Navigator.show(Categories.class, Categories::new);
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton1ActionPerformed
 
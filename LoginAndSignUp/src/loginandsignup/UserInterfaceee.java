@@ -16,7 +16,10 @@ public class UserInterfaceee extends javax.swing.JFrame {
      * Creates new form UserInterfaceee
      */
     public UserInterfaceee() {
+        FrameOpenEvent opening = FrameOpenEvent.start(this);
         initComponents();
+        opening.componentsReady();
+        opening.finish();
     }
 
     /**
@@ -90,7 +93,7 @@ public class UserInterfaceee extends javax.swing.JFrame {
             }
         });
 
-        jLabel1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/front logo.png"))); // NOI18N
+        jLabel1.setIcon(Icons.loadAsync("/loginandsignup/front logo.png"));
 
         jLabel9.setFont(new java.awt.Font("Rockwell Extra Bold", 1, 48)); // NOI18N
         jLabel9.setForeground(new java.awt.Color(0, 51, 51));
@@ -100,7 +103,7 @@ public class UserInterfaceee extends javax.swing.JFrame {
         jLabel10.setForeground(new java.awt.Color(0, 51, 51));
         jLabel10.setText("LOCAL SERVICES FINDER");
 
-        jButton12.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/exit button.jpg"))); // NOI18N
+        jButton12.setIcon(Icons.loadAsync("/loginandsignup/exit button.jpg"));
         jButton12.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
                 jButton12ActionPerformed(evt);
@@ -171,7 +174,7 @@ public class UserInterfaceee extends javax.swing.JFrame {
         jLabel8.setText("with trusted professionals in your area—quickly and easily.\"");
 
         jLabel2.setHorizontalAlignment(javax.swing.SwingConstants.RIGHT);
-        jLabel2.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/Firefly 20240923193915.png"))); // NOI18N
+        jLabel2.setIcon(Icons.loadAsync("/loginandsignup/Firefly 20240923193915.png"));
         jLabel2.setVerticalAlignment(javax.swing.SwingConstants.BOTTOM);
 
         jLabel7.setFont(new java.awt.Font("Segoe UI Black", 1, 24)); // NOI18N
@@ -182,25 +185,25 @@ public class UserInterfaceee extends javax.swing.JFrame {
         jLabel3.setForeground(new java.awt.Color(255, 255, 255));
         jLabel3.setText("Services we provide:                                                          (TO Access These Services Please Sign-Up)");
 
-        jLabel4.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/saloon.png"))); // NOI18N
+        jLabel4.setIcon(Icons.loadAsync("/loginandsignup/saloon.png"));
 
-        jLabel11.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/plumber1.png"))); // NOI18N
+        jLabel11.setIcon(Icons.loadAsync("/loginandsignup/plumber1.png"));
 
-        jLabel12.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/electrician1.png"))); // NOI18N
+        jLabel12.setIcon(Icons.loadAsync("/loginandsignup/electrician1.png"));
 
-        jLabel13.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/appliance repair.png"))); // NOI18N
+        jLabel13.setIcon(Icons.loadAsync("/loginandsignup/appliance repair.png"));
 
-        jLabel14.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/home teacher.png"))); // NOI18N
+        jLabel14.setIcon(Icons.loadAsync("/loginandsignup/home teacher.png"));
 
-        jLabel15.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/home cleaning.png"))); // NOI18N
+        jLabel15.setIcon(Icons.loadAsync("/loginandsignup/home cleaning.png"));
 
-        jLabel16.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/altering.png"))); // NOI18N
+        jLabel16.setIcon(Icons.loadAsync("/loginandsignup/altering.png"));
 
-        jLabel17.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/beauty makeup.png"))); // NOI18N
+        jLabel17.setIcon(Icons.loadAsync("/loginandsignup/beauty makeup.png"));
 
-        jLabel18.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/pest control.png"))); // NOI18N
+        jLabel18.setIcon(Icons.loadAsync("/loginandsignup/pest control.png"));
 
-        jLabel19.setIcon(new javax.swing.ImageIcon(getClass().getResource("/loginandsignup/car repair.png"))); // NOI18N
+        jLabel19.setIcon(Icons.loadAsync("/loginandsignup/car repair.png"));
 
         javax.swing.GroupLayout jPanel3Layout = new javax.swing.GroupLayout(jPanel3);
         jPanel3.setLayout(jPanel3Layout);
@@ -328,28 +331,17 @@ public class UserInterfaceee extends javax.swing.JFrame {
     }// </editor-fold>//GEN-END:initComponents
 
     private void jButton2ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton2ActionPerformed
-        Login LoginFrame = new Login();
-        LoginFrame.setVisible(true);
-        LoginFrame.pack();
-        LoginFrame.setLocationRelativeTo(null);
+        Navigator.show(Login.class, Login::new);
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton2ActionPerformed
 
     private void jButton3ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton3ActionPerformed
-        SignUp_1 SignUp_1Frame = new SignUp_1();
-        SignUp_1Frame.setVisible(true);
-        SignUp_1Frame.pack();
-        SignUp_1Frame.setLocationRelativeTo(null);
-        this.dispose();
+        Navigator.show(SignUp_1.class, SignUp_1::new);
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton3ActionPerformed
 
     private void jButton4ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_jButton4ActionPerformed
-        SignUp SignUpFrame = new SignUp();
-        SignUpFrame.setVisible(true);
-        SignUpFrame.pack();
-        SignUpFrame.setLocationRelativeTo(null);
-        this.dispose();
+        Navigator.show(SignUp.class, SignUp::new);
         // TODO add your handling code here:
     }//GEN-LAST:event_jButton4ActionPerformed
 
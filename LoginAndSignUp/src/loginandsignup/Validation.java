@@ -0,0 +1,40 @@
+package loginandsignup;
+
+/** Field checks shared by the services; messages match what the forms always showed. */
+final class Validation {
+
+    private Validation() {
+    }
+
+    static void requireFilled(String... values) throws ValidationException {
+        for (String value : values) {
+            if (value == null || value.isEmpty()) {
+                throw new ValidationException("Please fill all fields");
+            }
+        }
+    }
+
+    static void requireLetters(String value) throws ValidationException {
+        if (!value.matches("[a-zA-Z ]+")) {
+            throw new ValidationException("Invalid input! The field must only contain letters and spaces.");
+        }
+    }
+
+    static void requireEmail(String value) throws ValidationException {
+        if (!value.contains("@")) {
+            throw new ValidationException("Invalid email!");
+        }
+    }
+
+    static void requireContactNumber(String value) throws ValidationException {
+        if (!value.matches("\\d{10}")) {
+            throw new ValidationException("Contact number must be exactly 10 digits");
+        }
+    }
+
+    static void requireSamePassword(String password, String confirmPassword) throws ValidationException {
+        if (!password.equals(confirmPassword)) {
+            throw new ValidationException("Passwords do not match. Please try again.");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package loginandsignup;
+
+/**
+ * Input rejected by one of the services. The message is meant to be shown to
+ * the user as-is.
+ */
+public class ValidationException extends Exception {
+
+    public ValidationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,194 @@
+package loginandsignup.tools;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+/**
+ * Build step run after compile. Packs the icons named in
+ * {@code tools/atlas.list} into {@code loginandsignup/atlas.png} with an
+ * index {@code loginandsignup/atlas.idx}, and removes from the build classes
+ * every image that is either packed or not referenced by any source file or
+ * SQL script, so neither ships in the jar. The scripts are scanned because
+ * category icons are named only in the {@code ServiceCategories.icon} column.
+ * <pre>
+ *   AtlasPacker &lt;atlas.list&gt; &lt;src dir&gt; &lt;classes dir&gt; &lt;db dir&gt;
+ * </pre>
+ * Each list line is a resource path, optionally followed by {@code WxH} to
+ * pack a copy pre-scaled to that size. The index has one line per icon:
+ * {@code x y width height key}, where the key is the resource path, plus
+ * {@code @WxH} for pre-scaled copies.
+ */
+public final class AtlasPacker {
+
+    static final String ATLAS = "/loginandsignup/atlas.png";
+    static final String INDEX = "/loginandsignup/atlas.idx";
+
+    private static final int ATLAS_WIDTH = 512;
+    private static final int PADDING = 1;
+    private static final Pattern SIZED = Pattern.compile("^(.*\\S)\\s+(\\d+)x(\\d+)$");
+    private static final Pattern IMAGE_REFERENCE = Pattern.compile("\"(/[^\"]+\\.(?:png|jpg|jpeg|gif))\"");
+    private static final Pattern SQL_IMAGE_REFERENCE = Pattern.compile("'(/[^']+\\.(?:png|jpg|jpeg|gif))'");
+
+    private record Sprite(String key, String path, BufferedImage image) {
+    }
+
+    private AtlasPacker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("Usage: AtlasPacker <atlas.list> <src dir> <classes dir> <db dir>");
+            System.exit(2);
+        }
+        Path list = Path.of(args[0]);
+        Path sources = Path.of(args[1]);
+        Path classes = Path.of(args[2]);
+        Path scripts = Path.of(args[3]);
+
+        List<Sprite> sprites = read(list, classes);
+        pack(sprites, classes);
+        strip(sprites, sources, scripts, classes);
+    }
+
+    private static List<Sprite> read(Path list, Path classes) throws IOException {
+        List<Sprite> sprites = new ArrayList<>();
+        for (String line : Files.readAllLines(list, StandardCharsets.UTF_8)) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String path = line;
+            int width = 0;
+            int height = 0;
+            Matcher size = SIZED.matcher(line);
+            if (size.matches()) {
+                path = size.group(1);
+                width = Integer.parseInt(size.group(2));
+                height = Integer.parseInt(size.group(3));
+            }
+            BufferedImage image = ImageIO.read(resolve(classes, path).toFile());
+            if (image == null) {
+                throw new IOException("Not an image: " + path);
+            }
+            if (width > 0 && height > 0) {
+                sprites.add(new Sprite(path + "@" + width + "x" + height, path, scale(image, width, height)));
+            } else {
+                sprites.add(new Sprite(path, path, image));
+            }
+        }
+        return sprites;
+    }
+
+    /** Shelf packing, tallest first. */
+    private static void pack(List<Sprite> sprites, Path classes) throws IOException {
+        List<Sprite> order = new ArrayList<>(sprites);
+        order.sort(Comparator.comparingInt((Sprite s) -> s.image().getHeight()).reversed());
+        int[][] slots = new int[order.size()][];
+        int x = 0;
+        int y = 0;
+        int shelf = 0;
+        int width = 0;
+        for (int i = 0; i < order.size(); i++) {
+            BufferedImage image = order.get(i).image();
+            if (x > 0 && x + image.getWidth() > ATLAS_WIDTH) {
+                x = 0;
+                y += shelf + PADDING;
+                shelf = 0;
+            }
+            slots[i] = new int[]{x, y};
+            x += image.getWidth() + PADDING;
+            shelf = Math.max(shelf, image.getHeight());
+            width = Math.max(width, x - PADDING);
+        }
+        int height = y + shelf;
+
+        BufferedImage atlas = new BufferedImage(Math.max(1, width), Math.max(1, height), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        Path index = resolve(classes, INDEX);
+        Files.createDirectories(index.getParent());
+        try (Writer out = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < order.size(); i++) {
+                Sprite sprite = order.get(i);
+                BufferedImage image = sprite.image();
+                g.drawImage(image, slots[i][0], slots[i][1], null);
+                out.write(slots[i][0] + " " + slots[i][1] + " " + image.getWidth() + " " + image.getHeight()
+                        + " " + sprite.key() + "\n");
+            }
+        } finally {
+            g.dispose();
+        }
+        ImageIO.write(atlas, "png", resolve(classes, ATLAS).toFile());
+        System.out.printf("Packed %d icons into %dx%d %s%n", order.size(), atlas.getWidth(), atlas.getHeight(), ATLAS);
+    }
+
+    /** Deletes packed images and images no source file or SQL script names. */
+    private static void strip(List<Sprite> sprites, Path sources, Path scripts, Path classes) throws IOException {
+        Set<String> referenced = new TreeSet<>();
+        references(sources, ".java", IMAGE_REFERENCE, referenced);
+        references(scripts, ".sql", SQL_IMAGE_REFERENCE, referenced);
+        Set<String> packed = new TreeSet<>();
+        for (Sprite sprite : sprites) {
+            packed.add(sprite.path());
+        }
+        List<Path> images;
+        try (Stream<Path> files = Files.walk(classes)) {
+            images = files.filter(p -> p.toString().matches("(?i).*\\.(png|jpg|jpeg|gif)$")).toList();
+        }
+        for (Path image : images) {
+            String resource = "/" + classes.relativize(image).toString().replace('\\', '/');
+            if (resource.equals(ATLAS)) {
+                continue;
+            }
+            boolean isPacked = packed.contains(resource);
+            if (isPacked || !referenced.contains(resource)) {
+                Files.delete(image);
+                System.out.println((isPacked ? "Packed, removed " : "Unreferenced, removed ") + resource);
+            }
+        }
+    }
+
+    /** Adds every image path {@code pattern} finds in the files under {@code dir} ending in {@code suffix}. */
+    private static void references(Path dir, String suffix, Pattern pattern, Set<String> referenced)
+            throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(suffix))::iterator) {
+                Matcher m = pattern.matcher(Files.readString(file, StandardCharsets.UTF_8));
+                while (m.find()) {
+                    referenced.add(m.group(1));
+                }
+            }
+        }
+    }
+
+    private static Path resolve(Path classes, String resource) {
+        return classes.resolve(resource.substring(1));
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+}